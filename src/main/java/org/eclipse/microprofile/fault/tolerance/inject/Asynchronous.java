@@ -25,6 +25,8 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+import javax.interceptor.InterceptorBinding;
+
 /**
  * Wrap the execution and invoke it asynchronously.
  * @author <a href="mailto:emijiang@uk.ibm.com">Emily Jiang</a>
@@ -33,6 +35,8 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.RUNTIME)
 @Target({ ElementType.METHOD, ElementType.TYPE })
 @Inherited
+@InterceptorBinding
+@FaultTolerant
 public @interface Asynchronous {
 
 }
@@ -26,6 +26,9 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 import java.time.temporal.ChronoUnit;
 
+import javax.enterprise.util.Nonbinding;
+import javax.interceptor.InterceptorBinding;
+
 /**
  * Define the Circuit Breaker policy
  *
@@ -36,6 +39,8 @@ import java.time.temporal.ChronoUnit;
 @Documented
 @Target({ ElementType.METHOD, ElementType.TYPE })
 @Inherited
+@InterceptorBinding
+@FaultTolerant
 public @interface CircuitBreaker {
 
     /**
@@ -43,12 +48,14 @@ public @interface CircuitBreaker {
      *
      * @return the failure exception
      */
+    @Nonbinding
     Class<? extends Throwable>[] failOn() default Throwable.class;
 
     /**
      *
      * @return The delay time after the circuit is open
      */
+    @Nonbinding
     long delay() default 5000;
 
     /**
@@ -56,6 +63,7 @@ public @interface CircuitBreaker {
      * @return The delay unit after the circuit is open
      */
 
+    @Nonbinding
     ChronoUnit delayUnit() default ChronoUnit.MILLIS;
 
     /**
@@ -65,6 +73,7 @@ public @interface CircuitBreaker {
      * @return the number of the consecutive requests in a rolling window
      *
      */
+    @Nonbinding
     int requestVolumeThreshold() default 20;
 
     /**
@@ -75,6 +84,7 @@ public @interface CircuitBreaker {
      *
      * @return The failure threshold to open the circuit
      */
+    @Nonbinding
     double failureRatio() default .50;
 
     /**
@@ -83,6 +93,7 @@ public @interface CircuitBreaker {
      *
      * @return The success threshold to fully close the circuit
      */
+    @Nonbinding
     int successThreshold() default 1;
 
 }
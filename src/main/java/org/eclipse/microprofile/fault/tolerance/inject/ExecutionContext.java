@@ -22,6 +22,9 @@ import java.lang.reflect.Method;
 
 /**
  * The execution context for the method being executed.
+ * <p>
+ * Implementations should be backed by the invocation context of the interceptor and capture nothing for invocations
+ * that succeed; the parameters are only retained when a failure event or fallback needs them.
  * 
  * @author <a href="mailto:emijiang@uk.ibm.com">Emily Jiang</a>
  */
@@ -40,8 +43,24 @@ public interface ExecutionContext {
      * 
      * @return the parameter values, as an array
      * 
-     * 
+     * @see #getParameter(int)
      */
     public Object[] getParameters();
 
+    /**
+     * Returns the number of parameters being passed to the method, without copying them
+     *
+     * @return the number of parameters
+     */
+    public int getParameterCount();
+
+    /**
+     * Returns the parameter value at the {@code index}, without copying the parameter values
+     *
+     * @param index the index of the parameter
+     * @return the parameter value
+     * @throws IndexOutOfBoundsException if {@code index} < 0 or >= {@link #getParameterCount()}
+     */
+    public Object getParameter(int index);
+
 }
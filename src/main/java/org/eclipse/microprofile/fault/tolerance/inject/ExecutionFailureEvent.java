@@ -20,6 +20,10 @@ package org.eclipse.microprofile.fault.tolerance.inject;
 
 /**
  * The event payload on execution failure.
+ * <p>
+ * One event is fired synchronously on the failing thread per failure, so providers only fire it if an observer method
+ * for it exists, as resolved once at startup. An application that only observes {@link ExecutionFailureSummary}s pays
+ * nothing per failure on the failing thread.
  *
  * @author <a href="mailto:emijiang@uk.ibm.com">Emily Jiang</a>
  */
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.inject;
+
+import java.time.Duration;
+
+/**
+ * The event payload summarizing the failures of a method with one exception type over a period, fired asynchronously
+ * to the observers qualified with {@link FailureSummary}, e.g. 1243 circuit open failures of a method in the last
+ * second.
+ * <p>
+ * A summary is not an {@link ExecutionFailureEvent}, so observers of per-failure events never receive summaries and
+ * failures are never counted twice.
+ */
+public interface ExecutionFailureSummary {
+
+    /**
+     * 
+     * @return the ExecutionContext of the latest summarized failure
+     */
+    ExecutionContext getExecutionContext();
+
+    /**
+     * 
+     * @return the latest summarized exception
+     */
+    Throwable getException();
+
+    /**
+     * 
+     * @return the number of failures summarized by this event
+     */
+    int getCount();
+
+    /**
+     * 
+     * @return the period over which the failures were summarized
+     */
+    Duration getPeriod();
+
+}
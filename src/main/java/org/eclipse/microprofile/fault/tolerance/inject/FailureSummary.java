@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.inject;
+
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.time.temporal.ChronoUnit;
+
+import javax.inject.Qualifier;
+
+/**
+ * A qualifier to receive {@link ExecutionFailureSummary} events, delivered asynchronously instead of synchronously on
+ * the failing thread. Failures are counted per method and exception type, and one summary per method and exception
+ * type is fired per {@link #period() period}, with {@link ExecutionFailureSummary#getException()} returning the latest
+ * failure. Failures reach the summaries through a bounded queue; a failure that does not fit is still counted, so only
+ * its exception instance is lost.
+ * <p>
+ * Summaries are fired only with this qualifier and as their own event type, so existing observers of
+ * {@link ExecutionFailureEvent} are not affected: they keep receiving one event per failure while they exist. Replacing
+ * them with summary observers also stops the per-failure events on the failing thread.
+ * <p>
+ * The {@link #period() period} and {@link #periodUnit() periodUnit} are binding: the implementation summarizes failures
+ * once per distinct period declared by the observers and fires each summary with the qualifier of its period, e.g.
+ * through {@code Event.select(literal(period, periodUnit))}, so that an observer only receives the summaries of the
+ * period it declares and counts each failure once. Can be combined with {@link FailureMethod} to observe
+ * the summaries of a particular method, e.g.
+ * {@code void onFailures(@Observes @FailureSummary @FailureMethod("load") ExecutionFailureSummary summary)}.
+ */
+@Qualifier
+@Target(PARAMETER)
+@Retention(RUNTIME)
+public @interface FailureSummary {
+
+    /**
+     * The period over which failures are summarized. Defaults to 1 second.
+     *
+     * @return the period
+     */
+    long period() default 1;
+
+    /**
+     *
+     * @return the period unit
+     */
+    ChronoUnit periodUnit() default ChronoUnit.SECONDS;
+
+}
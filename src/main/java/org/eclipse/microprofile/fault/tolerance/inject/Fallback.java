@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.inject;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import javax.enterprise.util.Nonbinding;
+import javax.interceptor.InterceptorBinding;
+
+/**
+ * The Fallback annotation to name the method invoked with the same arguments when the annotated method fails and
+ * cannot be retried. The fallback method is declared by the bean class or one of its superclasses, has the same
+ * parameter types and returns a type assignable to the return type of the annotated method.
+ * <p>
+ * Since the parameter types must match, a fallback is only declared per method. The annotation targets types only so
+ * that it can be an interceptor binding; on a bean class it is a definition error, reported by the
+ * {@link org.eclipse.microprofile.fault.tolerance.inject.processor.GuardedMethodProcessor GuardedMethodProcessor} at
+ * compile time and by providers when they resolve the methods of the class.
+ *
+ * @see FallbackHandles
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@InterceptorBinding
+@FaultTolerant
+public @interface Fallback {
+
+    /**
+     *
+     * @return the name of the fallback method
+     */
+    @Nonbinding
+    String value();
+
+}
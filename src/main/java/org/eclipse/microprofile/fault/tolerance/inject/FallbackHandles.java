@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.inject;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+
+/**
+ * Resolves {@link Fallback} methods into method handles, once per guarded method, so that a fallback is invoked at
+ * peak failure rate without {@code Method.invoke} and without copying the arguments.
+ * <p>
+ * A resolved handle has the {@link #TYPE type} {@code (Object, Object[])Object} and is invoked with the bean instance
+ * and the argument array of the intercepted invocation, e.g.
+ * {@code Object result = (Object) handle.invokeExact(ctx.getTarget(), ctx.getParameters());}.
+ */
+public final class FallbackHandles {
+
+    /**
+     * The type of the resolved handles: the target bean and the arguments, returning the fallback result, or
+     * {@code null} for a {@code void} method.
+     */
+    public static final MethodType TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    private FallbackHandles() {}
+
+    /**
+     * Resolves the method named {@code fallbackMethod} with the parameter types of the {@code guarded} method, declared
+     * by the {@code beanClass} or one of its superclasses, into a handle of {@link #TYPE}. The {@code guarded} method
+     * may be inherited by the {@code beanClass}, so the fallback is looked up from the bean class rather than from the
+     * class declaring the {@code guarded} method. A static fallback method ignores the target.
+     *
+     * @param beanClass the class of the bean whose method is guarded
+     * @param guarded the method guarded by the fallback
+     * @param fallbackMethod the name of the fallback method
+     * @return the handle
+     * @throws IllegalArgumentException if the {@code guarded} method is not a method of the {@code beanClass}, no such
+     *         fallback method exists or its return type is not assignable to the return type of the {@code guarded}
+     *         method
+     */
+    public static MethodHandle resolve(Class<?> beanClass, Method guarded, String fallbackMethod) {
+        if (!guarded.getDeclaringClass().isAssignableFrom(beanClass)) {
+            throw new IllegalArgumentException(guarded + " is not a method of " + beanClass);
+        }
+        Method fallback = findMethod(beanClass, fallbackMethod, guarded.getParameterTypes());
+        if (fallback == null) {
+            throw new IllegalArgumentException("No fallback method " + fallbackMethod + " found for " + guarded);
+        }
+        if (guarded.getReturnType() != void.class
+            && !wrap(guarded.getReturnType()).isAssignableFrom(wrap(fallback.getReturnType()))) {
+            throw new IllegalArgumentException("The return type of the fallback method " + fallback
+                                               + " is not assignable to the return type of " + guarded);
+        }
+
+        AccessController.doPrivileged(new PrivilegedAction<Void>() {
+            @Override
+            public Void run() {
+                fallback.setAccessible(true);
+                return null;
+            }
+        });
+
+        MethodHandle handle;
+        try {
+            handle = MethodHandles.lookup().unreflect(fallback);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("The fallback method " + fallback + " is not accessible", e);
+        }
+        if (Modifier.isStatic(fallback.getModifiers())) {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+        return handle.asSpreader(Object[].class, fallback.getParameterCount()).asType(TYPE);
+    }
+
+    private static Method findMethod(Class<?> type, String name, Class<?>[] parameterTypes) {
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            try {
+                return c.getDeclaredMethod(name, parameterTypes);
+            } catch (NoSuchMethodException e) {
+                // Try the superclass
+            }
+        }
+        return null;
+    }
+
+    private static Class<?> wrap(Class<?> type) {
+        return type.isPrimitive() ? MethodType.methodType(type).wrap().returnType() : type;
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.inject;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import javax.interceptor.InterceptorBinding;
+
+/**
+ * The interceptor binding shared by all fault tolerance annotations, which carry it as a meta-annotation.
+ * <p>
+ * Providers bind their single fault tolerance interceptor to this annotation, e.g.
+ * {@code @FaultTolerant @Interceptor @Priority(...) class FaultToleranceInterceptor}. It then intercepts every method
+ * with any combination of {@link Retry}, {@link CircuitBreaker}, {@link TimeOut}, {@link RateLimit},
+ * {@link Coalesced}, {@link Fallback} or {@link Asynchronous} exactly once, and runs the invocation through the
+ * executor of its {@link GuardedMethod}, whose policy chain is built once. Binding an interceptor to one of the
+ * annotations instead would intercept the methods with several annotations once per interceptor, and binding it to
+ * all of them would only intercept the methods carrying all of them.
+ * <p>
+ * Applications do not use this annotation directly.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@Inherited
+@InterceptorBinding
+public @interface FaultTolerant {
+
+}
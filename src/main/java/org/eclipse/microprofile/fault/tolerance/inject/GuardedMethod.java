@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.inject;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Method;
+
+import org.eclipse.microprofile.faulttolerance.AsyncExecutor;
+import org.eclipse.microprofile.faulttolerance.SyncExecutor;
+
+/**
+ * The fault tolerance metadata of a method annotated with {@link Retry}, {@link CircuitBreaker}, {@link TimeOut},
+ * {@link RateLimit}, {@link Coalesced}, {@link Fallback} or {@link Asynchronous}, directly or through its class.
+ * <p>
+ * A GuardedMethod is resolved once per method and bean class, at bean discovery or on the first invocation, and then
+ * cached, so that the single interceptor bound to {@link FaultTolerant} runs each invocation through the prebuilt
+ * executor without reading annotations, reflecting or creating policies.
+ *
+ * @see org.eclipse.microprofile.faulttolerance.spi.FaultToleranceProviderResolver#getGuardedMethod(Class, Method)
+ */
+public interface GuardedMethod {
+
+    /**
+     * Returns the guarded method
+     *
+     * @return the method
+     */
+    public Method getMethod();
+
+    /**
+     * Returns the class of the bean the method is guarded for
+     *
+     * @return the bean class
+     */
+    public Class<?> getBeanClass();
+
+    /**
+     * Returns whether the method is invoked asynchronously
+     *
+     * @return true if the method or its class is annotated with {@link Asynchronous}
+     */
+    public boolean isAsynchronous();
+
+    /**
+     * Returns the executor configured from the annotations of the method, built once and shared by all invocations
+     *
+     * @return the built executor
+     * @see SyncExecutor#build()
+     */
+    public SyncExecutor<Object> getExecutor();
+
+    /**
+     * Returns the asynchronous executor configured from the annotations of the method, built once and shared by all
+     * invocations
+     *
+     * @return the built executor, or null if the method is not {@link #isAsynchronous() asynchronous}
+     */
+    public AsyncExecutor<Object> getAsyncExecutor();
+
+    /**
+     * Returns the {@link Fallback} method of the method, resolved once into a handle of type
+     * {@link FallbackHandles#TYPE}
+     *
+     * @return the fallback handle, or null if the method has no fallback
+     * @see FallbackHandles#resolve(Class, Method, String)
+     */
+    public MethodHandle getFallback();
+
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.inject;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * The index of guarded methods generated at compile time by
+ * {@link org.eclipse.microprofile.fault.tolerance.inject.processor.GuardedMethodProcessor GuardedMethodProcessor}, so
+ * that a runtime can resolve {@link GuardedMethod}s without scanning beans and reading annotations at startup.
+ * <p>
+ * The index is stored in the {@link #RESOURCE} properties file of each compiled module. For each annotated method, the
+ * key {@code <signature>|<Annotation>} marks an annotation that applies to the method, directly or through its class,
+ * and the keys {@code <signature>|<Annotation>.<member>} hold the resolved member values, including defaults. Class
+ * values are binary class names and arrays are comma separated. Observer methods with a {@link FailureMethod} or
+ * {@link FailureSummary} parameter are indexed with these qualifiers.
+ * <p>
+ * Methods are indexed under the class that declares them, and the inherited methods of a class that declares its own
+ * class level annotations are also indexed under that class, since these annotations apply to them there. Entries are
+ * therefore looked up by bean class with {@link #lookup(Map, Class, Method)}.
+ * <p>
+ * The index is a hint, not a complete list: a method is missing from it if its class was compiled without the
+ * processor, e.g. by a tool that does not run annotation processors. A runtime must resolve a method that is not in the
+ * index by reading its annotations, exactly as if no index was available.
+ *
+ * @see #signature(Class, Method)
+ */
+public final class GuardedMethodIndex {
+
+    /**
+     * The location of the index in a module.
+     */
+    public static final String RESOURCE = "META-INF/microprofile-fault-tolerance/guarded-methods.properties";
+
+    /**
+     * Separates the method signature from the annotation in an index key.
+     */
+    public static final char SEPARATOR = '|';
+
+    private GuardedMethodIndex() {}
+
+    /**
+     * Loads the indexes visible to the {@code classLoader}, keyed by {@link #signature(Class, Method) method signature}. Each
+     * value maps {@code <Annotation>} and {@code <Annotation>.<member>} to the indexed value.
+     *
+     * @param classLoader the class loader to load the indexes from
+     * @return the indexed methods, empty if no index is visible
+     * @throws UncheckedIOException if an index cannot be read
+     */
+    public static Map<String, Map<String, String>> load(ClassLoader classLoader) {
+        Map<String, Map<String, String>> methods = new HashMap<>();
+        try {
+            Enumeration<URL> resources = classLoader.getResources(RESOURCE);
+            while (resources.hasMoreElements()) {
+                Properties index = new Properties();
+                try (InputStream in = resources.nextElement().openStream()) {
+                    index.load(in);
+                }
+                for (String key : index.stringPropertyNames()) {
+                    int separator = key.lastIndexOf(SEPARATOR);
+                    if (separator < 0) {
+                        continue;
+                    }
+                    methods.computeIfAbsent(key.substring(0, separator), k -> new HashMap<>())
+                        .put(key.substring(separator + 1), index.getProperty(key));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        for (Map.Entry<String, Map<String, String>> entry : methods.entrySet()) {
+            entry.setValue(Collections.unmodifiableMap(entry.getValue()));
+        }
+        return Collections.unmodifiableMap(methods);
+    }
+
+    /**
+     * Returns the indexed annotations of the {@code method} invoked on an instance of the {@code beanClass}: the entry
+     * of the {@code beanClass} itself or else of its nearest superclass with an entry, up to the declaring class of the
+     * {@code method}.
+     *
+     * @param index the index, as {@link #load(ClassLoader) loaded}
+     * @param beanClass the bean class, the declaring class of the {@code method} or one of its subclasses
+     * @param method the method
+     * @return the indexed annotations of the method, {@code null} if the method is not in the index
+     */
+    public static Map<String, String> lookup(Map<String, Map<String, String>> index, Class<?> beanClass, Method method) {
+        for (Class<?> type = beanClass; type != null; type = type.getSuperclass()) {
+            Map<String, String> annotations = index.get(signature(type, method));
+            if (annotations != null || type == method.getDeclaringClass()) {
+                return annotations;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the signature of the {@code method} as used in the index under its declaring class, e.g.
+     * {@code com.acme.Catalog#load(java.lang.String,int[])}.
+     *
+     * @param method the method
+     * @return the signature
+     */
+    public static String signature(Method method) {
+        return signature(method.getDeclaringClass(), method);
+    }
+
+    /**
+     * Returns the signature of the {@code method} as used in the index under the {@code beanClass}, which inherits or
+     * declares it.
+     *
+     * @param beanClass the bean class
+     * @param method the method
+     * @return the signature
+     */
+    public static String signature(Class<?> beanClass, Method method) {
+        StringBuilder signature = new StringBuilder(beanClass.getName())
+            .append('#').append(method.getName()).append('(');
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (i > 0) {
+                signature.append(',');
+            }
+            signature.append(parameterTypes[i].getTypeName());
+        }
+        return signature.append(')').toString();
+    }
+}
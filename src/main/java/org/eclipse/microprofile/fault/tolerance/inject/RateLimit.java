@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.inject;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.time.temporal.ChronoUnit;
+
+import javax.enterprise.util.Nonbinding;
+import javax.interceptor.InterceptorBinding;
+
+import org.eclipse.microprofile.faulttolerance.RateLimiter;
+
+/**
+ * Define the Rate Limiter policy
+ *
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@Inherited
+@InterceptorBinding
+@FaultTolerant
+public @interface RateLimit {
+
+    /**
+     *
+     * @return The number of permits per period
+     */
+    @Nonbinding
+    int permits() default 100;
+
+    /**
+     *
+     * @return The period over which the permits are issued
+     */
+    @Nonbinding
+    long period() default 1000;
+
+    /**
+     *
+     * @return the period unit
+     */
+    @Nonbinding
+    ChronoUnit periodUnit() default ChronoUnit.MILLIS;
+
+    /**
+     *
+     * @return the number of executions allowed in excess of the rate after a quiet period
+     */
+    @Nonbinding
+    int burst() default 0;
+
+    /**
+     * The max time to wait for a permit. 0 means that executions over the rate fail fast.
+     *
+     * @return the max wait time
+     */
+    @Nonbinding
+    long maxWait() default 0;
+
+    /**
+     *
+     * @return the max wait unit
+     */
+    @Nonbinding
+    ChronoUnit maxWaitUnit() default ChronoUnit.MILLIS;
+
+    /**
+     *
+     * @return the admission algorithm
+     */
+    @Nonbinding
+    RateLimiter.Mode mode() default RateLimiter.Mode.TOKEN_BUCKET;
+
+}
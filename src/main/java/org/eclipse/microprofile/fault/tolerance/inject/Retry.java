@@ -26,6 +26,9 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 import java.time.temporal.ChronoUnit;
 
+import javax.enterprise.util.Nonbinding;
+import javax.interceptor.InterceptorBinding;
+
 /**
  * The Retry annotation to define the number of the retries and the fallback method on reaching the
  * retry counts.
@@ -37,12 +40,15 @@ import java.time.temporal.ChronoUnit;
 @Retention(RetentionPolicy.RUNTIME)
 @Target({ ElementType.METHOD, ElementType.TYPE })
 @Inherited
+@InterceptorBinding
+@FaultTolerant
 public @interface Retry {
 
     /**
      * @return The max number of retries. -1 means retry forever. If less than -1, an IllegalArgumentException will be thrown.
      *
      */
+    @Nonbinding
     int maxRetries() default 3;
 
     /**
@@ -50,6 +56,7 @@ public @interface Retry {
      *
      * @return the delay time
      */
+    @Nonbinding
     long delay() default 0;
 
     /**
@@ -57,17 +64,20 @@ public @interface Retry {
      * @return the delay unit
      */
 
+    @Nonbinding
     ChronoUnit delayUnit() default ChronoUnit.MILLIS;
 
     /**
      * @return the maximum duration to perform retries for.
      */
+    @Nonbinding
     long maxDuration() default 2000;
 
     /**
      *
      * @return the duration unit
      */
+    @Nonbinding
     ChronoUnit durationUnit() default ChronoUnit.MILLIS;
 
     /**
@@ -75,24 +85,28 @@ public @interface Retry {
      * @return the jitter that randomly vary retry delays by. e.g. a jitter of 20 milliseconds
      *         will randomly add betweem -200 and 200 milliseconds to each retry delay.
      */
+    @Nonbinding
     long jitter() default 200;
 
     /**
      *
      * @return the jitter delay unit.
      */
+    @Nonbinding
     ChronoUnit jitterDelayUnit() default ChronoUnit.MILLIS;
 
     /**
      *
      * @return Specify the failure to retry on
      */
+    @Nonbinding
     Class<? extends Throwable>[] retryOn() default { Exception.class };
 
     /**
      *
      * @return Specify the failure to abort on
      */
+    @Nonbinding
     Class<? extends Throwable>[] abortOn() default {};
 
 }
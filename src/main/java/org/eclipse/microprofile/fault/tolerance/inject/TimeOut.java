@@ -26,6 +26,9 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 import java.time.temporal.ChronoUnit;
 
+import javax.enterprise.util.Nonbinding;
+import javax.interceptor.InterceptorBinding;
+
 /**
  * The Timeout annotation to define the timeout period
  * retry counts.
@@ -36,18 +39,33 @@ import java.time.temporal.ChronoUnit;
 @Retention(RetentionPolicy.RUNTIME)
 @Target({ ElementType.METHOD, ElementType.TYPE })
 @Inherited
+@InterceptorBinding
+@FaultTolerant
 public @interface TimeOut {
 
     /**
      *
      * @return the timeout
      */
+    @Nonbinding
     long timeOut() default 1000;
 
     /**
      *
      * @return the timeout unit
      */
+    @Nonbinding
     ChronoUnit timeOutUnit() default ChronoUnit.MILLIS;
 
+    /**
+     * Whether to interrupt the thread running a timed out invocation. If false, an {@link Asynchronous} invocation is
+     * left to finish in the background and its result is discarded, while its caller gets the timeout on time. A
+     * synchronous invocation runs on the caller's thread and has no {@code Execution} to poll for cancellation, so
+     * without an interrupt its caller only gets the timeout once the invocation returns.
+     *
+     * @return whether to interrupt on timeout
+     */
+    @Nonbinding
+    boolean interrupt() default true;
+
 }
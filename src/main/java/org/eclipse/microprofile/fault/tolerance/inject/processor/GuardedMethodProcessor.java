@@ -0,0 +1,339 @@
+/*
+ * Copyright (c) 2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.inject.processor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import org.eclipse.microprofile.fault.tolerance.inject.Asynchronous;
+import org.eclipse.microprofile.fault.tolerance.inject.CircuitBreaker;
+import org.eclipse.microprofile.fault.tolerance.inject.Coalesced;
+import org.eclipse.microprofile.fault.tolerance.inject.FailureMethod;
+import org.eclipse.microprofile.fault.tolerance.inject.FailureSummary;
+import org.eclipse.microprofile.fault.tolerance.inject.Fallback;
+import org.eclipse.microprofile.fault.tolerance.inject.GuardedMethodIndex;
+import org.eclipse.microprofile.fault.tolerance.inject.RateLimit;
+import org.eclipse.microprofile.fault.tolerance.inject.Retry;
+import org.eclipse.microprofile.fault.tolerance.inject.TimeOut;
+
+/**
+ * Generates the {@link GuardedMethodIndex} of the classes being compiled: every method guarded by a fault tolerance
+ * annotation, on the method or its class, with the resolved annotation values, and every observer method with a
+ * {@link FailureMethod} or {@link FailureSummary} parameter.
+ * <p>
+ * The processor is registered as a service, so it runs whenever this API is on the compile class path. It runs on
+ * every compilation, with or without fault tolerance annotations, and merges the index left in the class output by a
+ * previous build: the entries of the classes being compiled are replaced and the entries of the other classes are kept,
+ * so that an incremental build does not lose the methods of the classes it does not recompile. Entries of deleted
+ * classes are only dropped by a full build.
+ */
+@SupportedAnnotationTypes("*")
+public class GuardedMethodProcessor extends AbstractProcessor {
+
+    private static final Set<String> GUARD_ANNOTATIONS = new HashSet<>(Arrays.asList(
+        Asynchronous.class.getName(), CircuitBreaker.class.getName(), Coalesced.class.getName(),
+        Fallback.class.getName(), RateLimit.class.getName(), Retry.class.getName(), TimeOut.class.getName()));
+
+    private final Map<String, String> index = new TreeMap<>();
+
+    /* The binary names of the classes being compiled, whose entries in the previous index are replaced */
+    private final Set<String> compiledTypes = new HashSet<>();
+
+    private Properties previousIndex;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (previousIndex == null) {
+            previousIndex = readPreviousIndex();
+        }
+        if (roundEnv.processingOver()) {
+            mergePreviousIndex();
+            writeIndex();
+        } else {
+            for (Element element : roundEnv.getRootElements()) {
+                if (element instanceof TypeElement) {
+                    indexType((TypeElement) element);
+                }
+            }
+        }
+        // Leave the annotations to other processors
+        return false;
+    }
+
+    private void indexType(TypeElement type) {
+        compiledTypes.add(processingEnv.getElementUtils().getBinaryName(type).toString());
+        Map<String, AnnotationMirror> typeGuards = guards(processingEnv.getElementUtils().getAllAnnotationMirrors(type));
+        AnnotationMirror typeFallback = typeGuards.remove(Fallback.class.getSimpleName());
+        if (typeFallback != null) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                "@Fallback only applies to methods, since the fallback method must match their parameter types", type,
+                typeFallback);
+        }
+
+        Set<String> declared = new HashSet<>();
+        for (Element member : type.getEnclosedElements()) {
+            if (member instanceof TypeElement) {
+                indexType((TypeElement) member);
+            } else if (member instanceof ExecutableElement && member.getKind() == ElementKind.METHOD) {
+                ExecutableElement method = (ExecutableElement) member;
+                String signature = signature(type, method);
+                declared.add(signature.substring(signature.indexOf('#')));
+
+                // Private and static methods cannot be intercepted, but they can be observers
+                if (isInterceptable(method)) {
+                    indexGuards(signature, typeGuards, method);
+                }
+
+                for (VariableElement parameter : method.getParameters()) {
+                    for (AnnotationMirror annotation : parameter.getAnnotationMirrors()) {
+                        String name = annotationName(annotation);
+                        if (FailureMethod.class.getName().equals(name) || FailureSummary.class.getName().equals(name)) {
+                            indexAnnotation(signature, name.substring(name.lastIndexOf('.') + 1), annotation);
+                        }
+                    }
+                }
+            }
+        }
+
+        // The inherited methods of a class declaring its own class level guards are guarded differently in this class
+        // than in the superclass that declares them, so they are indexed again under this class
+        if (!guards(type.getAnnotationMirrors()).isEmpty()) {
+            indexInheritedMethods(type, typeGuards, declared);
+        }
+    }
+
+    private void indexInheritedMethods(TypeElement type, Map<String, AnnotationMirror> typeGuards, Set<String> declared) {
+        PackageElement typePackage = processingEnv.getElementUtils().getPackageOf(type);
+        for (TypeElement superclass = superclass(type); superclass != null; superclass = superclass(superclass)) {
+            boolean samePackage = processingEnv.getElementUtils().getPackageOf(superclass).equals(typePackage);
+            for (Element member : superclass.getEnclosedElements()) {
+                if (member.getKind() != ElementKind.METHOD) {
+                    continue;
+                }
+                ExecutableElement method = (ExecutableElement) member;
+                boolean inherited = samePackage || method.getModifiers().contains(Modifier.PUBLIC)
+                                    || method.getModifiers().contains(Modifier.PROTECTED);
+                String signature = signature(type, method);
+                // Methods overridden by a subclass are indexed with the overriding method
+                if (inherited && isInterceptable(method) && declared.add(signature.substring(signature.indexOf('#')))) {
+                    indexGuards(signature, typeGuards, method);
+                }
+            }
+        }
+    }
+
+    private TypeElement superclass(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        TypeElement element = (TypeElement) processingEnv.getTypeUtils().asElement(superclass);
+        // The methods of Object are not guarded
+        return element.getQualifiedName().contentEquals(Object.class.getName()) ? null : element;
+    }
+
+    private static boolean isInterceptable(ExecutableElement method) {
+        Set<Modifier> modifiers = method.getModifiers();
+        return !modifiers.contains(Modifier.PRIVATE) && !modifiers.contains(Modifier.STATIC);
+    }
+
+    private void indexGuards(String signature, Map<String, AnnotationMirror> typeGuards, ExecutableElement method) {
+        // Annotations on the method override the same annotations on the class
+        Map<String, AnnotationMirror> methodGuards = new LinkedHashMap<>(typeGuards);
+        methodGuards.putAll(guards(method.getAnnotationMirrors()));
+        for (Map.Entry<String, AnnotationMirror> guard : methodGuards.entrySet()) {
+            indexAnnotation(signature, guard.getKey(), guard.getValue());
+        }
+    }
+
+    private Map<String, AnnotationMirror> guards(List<? extends AnnotationMirror> annotations) {
+        Map<String, AnnotationMirror> guards = new LinkedHashMap<>();
+        for (AnnotationMirror annotation : annotations) {
+            String name = annotationName(annotation);
+            if (GUARD_ANNOTATIONS.contains(name)) {
+                guards.put(name.substring(name.lastIndexOf('.') + 1), annotation);
+            }
+        }
+        return guards;
+    }
+
+    private void indexAnnotation(String signature, String name, AnnotationMirror annotation) {
+        String prefix = signature + GuardedMethodIndex.SEPARATOR + name;
+        index.put(prefix, "");
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : processingEnv.getElementUtils()
+            .getElementValuesWithDefaults(annotation).entrySet()) {
+            index.put(prefix + '.' + entry.getKey().getSimpleName(), format(entry.getValue()));
+        }
+    }
+
+    private String format(AnnotationValue value) {
+        Object v = value.getValue();
+        if (v instanceof TypeMirror) {
+            return binaryName((TypeMirror) v);
+        } else if (v instanceof VariableElement) {
+            // An enum constant
+            return ((VariableElement) v).getSimpleName().toString();
+        } else if (v instanceof List) {
+            StringBuilder values = new StringBuilder();
+            for (Object element : (List<?>) v) {
+                if (values.length() > 0) {
+                    values.append(',');
+                }
+                values.append(format((AnnotationValue) element));
+            }
+            return values.toString();
+        }
+        return String.valueOf(v);
+    }
+
+    private String signature(TypeElement type, ExecutableElement method) {
+        StringBuilder signature = new StringBuilder(processingEnv.getElementUtils().getBinaryName(type))
+            .append('#').append(method.getSimpleName()).append('(');
+        List<? extends VariableElement> parameters = method.getParameters();
+        for (int i = 0; i < parameters.size(); i++) {
+            if (i > 0) {
+                signature.append(',');
+            }
+            signature.append(binaryName(processingEnv.getTypeUtils().erasure(parameters.get(i).asType())));
+        }
+        return signature.append(')').toString();
+    }
+
+    private String binaryName(TypeMirror type) {
+        if (type.getKind() == TypeKind.DECLARED) {
+            TypeElement element = (TypeElement) processingEnv.getTypeUtils().asElement(type);
+            return processingEnv.getElementUtils().getBinaryName(element).toString();
+        } else if (type.getKind() == TypeKind.ARRAY) {
+            return binaryName(((ArrayType) type).getComponentType()) + "[]";
+        }
+        return type.toString();
+    }
+
+    private static String annotationName(AnnotationMirror annotation) {
+        return ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString();
+    }
+
+    private Properties readPreviousIndex() {
+        Properties previous = new Properties();
+        try {
+            FileObject resource = processingEnv.getFiler()
+                .getResource(StandardLocation.CLASS_OUTPUT, "", GuardedMethodIndex.RESOURCE);
+            try (InputStream in = resource.openInputStream()) {
+                previous.load(in);
+            }
+        } catch (IOException e) {
+            // No index from a previous build
+        }
+        return previous;
+    }
+
+    private void mergePreviousIndex() {
+        for (String key : previousIndex.stringPropertyNames()) {
+            int end = key.indexOf('#');
+            if (end > 0 && !compiledTypes.contains(key.substring(0, end))) {
+                index.putIfAbsent(key, previousIndex.getProperty(key));
+            }
+        }
+    }
+
+    private void writeIndex() {
+        // An empty index is still written over a previous one, whose classes have all lost their entries
+        if (index.isEmpty() && previousIndex.isEmpty()) {
+            return;
+        }
+        try {
+            FileObject resource = processingEnv.getFiler()
+                .createResource(StandardLocation.CLASS_OUTPUT, "", GuardedMethodIndex.RESOURCE);
+            try (Writer writer = new OutputStreamWriter(resource.openOutputStream(), StandardCharsets.ISO_8859_1)) {
+                for (Map.Entry<String, String> entry : index.entrySet()) {
+                    writer.write(escape(entry.getKey()));
+                    writer.write('=');
+                    writer.write(escape(entry.getValue()));
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                "Cannot write " + GuardedMethodIndex.RESOURCE + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Escapes the {@code text} as a key or value of a properties file.
+     */
+    private static String escape(String text) {
+        StringBuilder escaped = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '\\':
+                case '=':
+                case ':':
+                case '#':
+                case '!':
+                case ' ':
+                    escaped.append('\\').append(c);
+                    break;
+                default:
+                    if (c < 0x20 || c > 0x7e) {
+                        escaped.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        escaped.append(c);
+                    }
+            }
+        }
+        return escaped.toString();
+    }
+}
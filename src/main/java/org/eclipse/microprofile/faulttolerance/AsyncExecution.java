@@ -85,4 +85,13 @@ public interface AsyncExecution extends Execution {
    */
   boolean retryOn(Throwable failure);
 
+  /**
+   * Registers the {@code listener} to be called when the execution is cancelled, such as when the caller cancels the
+   * associated {@code Future}, so that in-flight asynchronous work can be aborted. The {@code listener} is called
+   * immediately if the execution is already cancelled.
+   *
+   * @throws NullPointerException if {@code listener} is null
+   */
+  void onCancel(Runnable listener);
+
 }
\ No newline at end of file
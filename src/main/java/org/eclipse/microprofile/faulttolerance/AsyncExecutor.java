@@ -24,18 +24,51 @@
  */
 package org.eclipse.microprofile.faulttolerance;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.Future;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.eclipse.microprofile.faulttolerance.spi.AsyncCallable;
 import org.eclipse.microprofile.faulttolerance.spi.AsyncRunnable;
+import org.reactivestreams.Publisher;
 
 /**
  * Performs asynchronous executions with failures handled according to a configured {@link #with(RetryPolicy) retry
  * policy}, {@link #with(CircuitBreaker) circuit breaker} and
  * {@link #withFallback(java.util.function.BiFunction) fallback}.
+ * <p>
+ * For {@link #future(Callable)} and {@link #futureAsync(AsyncCallable)},
+ * policies are applied as continuations of the future returned by each
+ * attempt, on the thread that completes it, such as an I/O event loop thread.
+ * Implementations must never block a thread waiting for an attempt and must
+ * not hand off to another executor per attempt; only a retry with a delay goes
+ * through the configured {@link org.eclipse.microprofile.faulttolerance.spi.Scheduler
+ * Scheduler}, and a retry without a delay is started on the completing thread.
+ * <p>
+ * An attempt may complete synchronously, e.g. a callable that returns an
+ * already failed future or a call rejected by an open circuit. Implementations
+ * must then run the next attempt in a loop on the current thread, as a
+ * trampoline, rather than start it from within the continuation of the
+ * completed attempt, so that the stack does not grow with each retry and
+ * unbounded retries cannot end in a {@code StackOverflowError}.
+ * <p>
+ * Cancelling any future returned by this executor cancels the whole
+ * execution: a pending delayed retry is cancelled with the {@code Scheduler},
+ * the in-flight attempt is signalled via {@link Execution#isCancelled()} and
+ * {@link AsyncExecution#onCancel(Runnable)}, and any bulkhead permit held by
+ * the execution is released at once. No further attempts are made.
+ * <p>
+ * A {@link #withCoalescing() coalesced} execution is shared by several
+ * waiters, so cancelling the future of one waiter only detaches that waiter,
+ * whose future completes as cancelled. The shared execution is cancelled as
+ * above only once all of its waiters have cancelled.
  *
  * @author Jonathan Halterman
  * @param <R> result type
@@ -72,6 +105,22 @@ public interface AsyncExecutor<R> extends AsyncExecutorConfig<R, AsyncExecutor<R
     public abstract <T> java.util.concurrent.CompletableFuture<T> future(
                     Function<Execution, java.util.concurrent.CompletableFuture<T>> callable);
 
+    /**
+     * Executes the {@code callable} as if by {@link #future(Callable)}, under
+     * the {@code key} of this call. The key selects the entry of a
+     * {@link #withCachedFallback(FallbackCache) cached fallback} and the
+     * executions that are {@link #withCoalescing() coalesced}.
+     * <p>
+     * Supported on Java 8 and above.
+     *
+     * @throws NullPointerException
+     *             if the {@code key} or the {@code callable} is null
+     * @throws CircuitBreakerOpenException
+     *             if a configured circuit breaker is open
+     */
+    public abstract <T> java.util.concurrent.CompletableFuture<T> future(Object key,
+                    Callable<java.util.concurrent.CompletableFuture<T>> callable);
+
     /**
      * Executes the {@code callable} asynchronously until the resulting future
      * is successfully completed or the configured {@link RetryPolicy} is
@@ -89,6 +138,35 @@ public interface AsyncExecutor<R> extends AsyncExecutorConfig<R, AsyncExecutor<R
     public abstract <T> java.util.concurrent.CompletableFuture<T> futureAsync(
                     AsyncCallable<java.util.concurrent.CompletableFuture<T>> callable);
 
+    /**
+     * Executes each of the {@code callables} as if by
+     * {@link #future(Callable)}, with at most {@code parallelism} of them in
+     * progress at a time. The returned future is completed with one result per
+     * callable in iteration order once all of them are complete; the failure
+     * of a callable is recorded in its result.
+     * <p>
+     * A slice is a run of {@code parallelism} consecutive callables in
+     * iteration order. A configured circuit breaker is asked for permission
+     * once per slice, when its first callable starts, and the other callables
+     * of the slice start without a further check. All callables of a slice
+     * that is not admitted fail with a {@link CircuitBreakerOpenException}
+     * without being run. If the breaker opens while an admitted slice runs,
+     * the callables of the slice that have not started yet fail the same way,
+     * and the next slice is checked as usual. While the breaker is half-open,
+     * a slice is reduced to a single callable, so that a batch cannot exceed
+     * the breaker's trial executions.
+     * <p>
+     * Supported on Java 8 and above.
+     *
+     * @throws NullPointerException
+     *             if {@code callables} is null or contains null
+     * @throws IllegalArgumentException
+     *             if {@code parallelism} < 1
+     */
+    public abstract <T> java.util.concurrent.CompletableFuture<List<ExecutionResult<T>>> futureAll(
+                    Collection<? extends Callable<java.util.concurrent.CompletableFuture<T>>> callables,
+                    int parallelism);
+
     /**
      * Executes the {@code callable} asynchronously until a successful result is
      * returned or the configured {@link RetryPolicy} is exceeded.
@@ -111,6 +189,46 @@ public interface AsyncExecutor<R> extends AsyncExecutorConfig<R, AsyncExecutor<R
      */
     public abstract <T> Future<T> get(Function<Execution, T> callable);
 
+    /**
+     * Executes the {@code callable} asynchronously as if by
+     * {@link #get(Callable)}, under the {@code key} of this call. The key
+     * selects the entry of a {@link #withCachedFallback(FallbackCache) cached
+     * fallback} and the executions that are {@link #withCoalescing()
+     * coalesced}.
+     *
+     * @throws NullPointerException
+     *             if the {@code key} or the {@code callable} is null
+     * @throws CircuitBreakerOpenException
+     *             if a configured circuit breaker is open
+     */
+    public abstract <T> Future<T> get(Object key, Callable<T> callable);
+
+    /**
+     * Executes each of the {@code callables} asynchronously as if by
+     * {@link #get(Callable)}, with at most {@code parallelism} of them in
+     * progress at a time. The returned future is completed with one result per
+     * callable in iteration order once all of them are complete; the failure
+     * of a callable is recorded in its result.
+     * <p>
+     * A slice is a run of {@code parallelism} consecutive callables in
+     * iteration order. A configured circuit breaker is asked for permission
+     * once per slice, when its first callable starts, and the other callables
+     * of the slice start without a further check. All callables of a slice
+     * that is not admitted fail with a {@link CircuitBreakerOpenException}
+     * without being run. If the breaker opens while an admitted slice runs,
+     * the callables of the slice that have not started yet fail the same way,
+     * and the next slice is checked as usual. While the breaker is half-open,
+     * a slice is reduced to a single callable, so that a batch cannot exceed
+     * the breaker's trial executions.
+     *
+     * @throws NullPointerException
+     *             if {@code callables} is null or contains null
+     * @throws IllegalArgumentException
+     *             if {@code parallelism} < 1
+     */
+    public abstract <T> Future<List<ExecutionResult<T>>> getAll(Collection<? extends Callable<T>> callables,
+                    int parallelism);
+
     /**
      * Executes the {@code callable} asynchronously until a successful result is
      * returned or the configured {@link RetryPolicy} is exceeded. This method
@@ -157,4 +275,71 @@ public interface AsyncExecutor<R> extends AsyncExecutorConfig<R, AsyncExecutor<R
      */
     public abstract Future<Void> runAsync(AsyncRunnable runnable);
 
+    /**
+     * Returns a publisher that subscribes to the publisher supplied by the
+     * {@code source} and, when it fails, resubscribes to a newly supplied one
+     * as allowed by the configured {@link RetryPolicy} and circuit breaker.
+     * Demand requested by the subscriber and not yet fulfilled is carried over
+     * to the new subscription, so backpressure is respected across retries.
+     * Elements already delivered are not replayed by the executor; a source
+     * that should not restart from the beginning must resume itself. A
+     * configured {@link ExecutorConfig#withTimeout(Duration) timeout} applies
+     * to the whole stream.
+     * <p>
+     * The publisher follows the Reactive Streams specification, and can be
+     * adapted to {@code java.util.concurrent.Flow} on Java 9 and above via
+     * {@code org.reactivestreams.FlowAdapters}.
+     *
+     * @throws NullPointerException
+     *             if {@code source} is null
+     */
+    public abstract <T> Publisher<T> publisher(Supplier<? extends Publisher<T>> source);
+
+    /**
+     * Returns a publisher that applies the configured policies to the
+     * publisher supplied by the {@code source}, as by
+     * {@link #publisher(Supplier)}, and additionally fails the current
+     * subscription with a {@link TimeOutException} if no element or
+     * completion arrives within {@code elementTimeout} while there is
+     * outstanding demand.
+     *
+     * @throws NullPointerException
+     *             if {@code source} or {@code elementTimeout} is null
+     * @throws IllegalArgumentException
+     *             if {@code elementTimeout} <= 0
+     */
+    public abstract <T> Publisher<T> publisher(Supplier<? extends Publisher<T>> source, Duration elementTimeout);
+
+    /**
+     * Returns a lazily evaluated stream that applies the {@code function} to
+     * the elements of the {@code source} asynchronously under this
+     * configuration. At most {@code prefetch} elements are pulled from the
+     * {@code source} ahead of the consumer and executed in parallel, so memory
+     * stays bounded for unbounded sources, while results are returned in
+     * encounter order. Each application is retried, circuit broken and falls
+     * back independently, and its failure is recorded in its result rather
+     * than terminating the stream.
+     *
+     * @throws NullPointerException
+     *             if {@code source} or {@code function} is null
+     * @throws IllegalArgumentException
+     *             if {@code prefetch} < 1
+     */
+    public abstract <T, U> Stream<ExecutionResult<U>> stream(Stream<T> source,
+                    Function<? super T, ? extends U> function, int prefetch);
+
+    /**
+     * Returns a lazily evaluated stream that applies the {@code function} to
+     * the elements of the {@code source} asynchronously under this
+     * configuration, with at most {@code prefetch} elements in progress.
+     *
+     * @throws NullPointerException
+     *             if {@code source} or {@code function} is null
+     * @throws IllegalArgumentException
+     *             if {@code prefetch} < 1
+     * @see #stream(Stream, Function, int)
+     */
+    public abstract <T, U> Stream<ExecutionResult<U>> stream(Iterator<T> source,
+                    Function<? super T, ? extends U> function, int prefetch);
+
 }
\ No newline at end of file
@@ -148,4 +148,24 @@ public interface AsyncExecutorConfig<R, F> extends ExecutorConfig<R, F> {
        */
     public F onSuccessAsync(Consumer<? extends R> listener);
 
+    /**
+     * Limits the number of executions of this executor that are in flight at a time, counting executions waiting for a
+     * scheduled retry. An execution started while the limit is reached fails fast with an
+     * {@link InFlightLimitExceededException}. The limit is shared by all executions of the same executor instance, see
+     * {@link #build()}.
+     *
+     * @throws IllegalArgumentException if {@code maxInFlight} < 1
+     */
+    public F withMaxInFlight(int maxInFlight);
+
+    /**
+     * Limits the number of executions of this executor that are in flight at a time, counting executions waiting for a
+     * scheduled retry. An execution started while the limit is reached is queued, and its future is returned before it
+     * is admitted; queued executions are admitted in FIFO order as in-flight executions complete. An execution started
+     * while {@code maxQueued} executions are already queued fails fast with an {@link InFlightLimitExceededException}.
+     *
+     * @throws IllegalArgumentException if {@code maxInFlight} < 1 or {@code maxQueued} < 0
+     */
+    public F withMaxInFlight(int maxInFlight, int maxQueued);
+
 }
\ No newline at end of file
@@ -18,6 +18,8 @@
  */
 package org.eclipse.microprofile.faulttolerance;
 
+import java.util.function.Supplier;
+
 /**
  * A Bulkhead to limit the number of concurrent calls to a component by using a fixed number
  * of threads in a pool.
@@ -33,4 +35,32 @@ public interface Bulkhead {
      * @return
      */
     Bulkhead withThreadPool(int poolSize);
+
+    /**
+     * Configures the bulkhead to queue waiting executions per caller and to hand out free slots fairly across the
+     * callers, by deficit round robin weighted by {@link #withCallerWeight(Object, int) caller weight}, so that one
+     * noisy caller cannot take every slot. The caller of an execution is identified by the key returned by
+     * {@code callerKey}, which is evaluated on the submitting thread (e.g. to read a tenant id).
+     * <p>
+     * Callers share the slots of this bulkhead; no thread pool or lock is provisioned per caller. An execution
+     * submitted when its caller already has {@code maxQueuedPerCaller} executions waiting is rejected with a
+     * {@link BulkheadRejectedException}.
+     *
+     * @param callerKey supplies the identity of the calling tenant or client
+     * @param maxQueuedPerCaller the max number of waiting executions per caller
+     * @throws NullPointerException if {@code callerKey} is null
+     * @throws IllegalArgumentException if {@code maxQueuedPerCaller} < 1
+     */
+    Bulkhead withFairQueuing(Supplier<?> callerKey, int maxQueuedPerCaller);
+
+    /**
+     * Sets the {@code weight} of the caller identified by {@code callerKey} when the bulkhead is configured for
+     * {@link #withFairQueuing(Supplier, int) fair queuing}. A caller with weight 2 is served twice as often as a caller
+     * with weight 1 while both have executions waiting. Callers without a configured weight have weight 1.
+     *
+     * @throws NullPointerException if {@code callerKey} is null
+     * @throws IllegalArgumentException if {@code weight} < 1
+     * @throws IllegalStateException if fair queuing has not been configured
+     */
+    Bulkhead withCallerWeight(Object callerKey, int weight);
 }
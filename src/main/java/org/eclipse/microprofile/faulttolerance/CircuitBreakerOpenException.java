@@ -30,4 +30,8 @@ public class CircuitBreakerOpenException extends FaultToleranceRuntimeException
     public CircuitBreakerOpenException(Throwable t) {
         super(t);
     }
+
+    public CircuitBreakerOpenException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
 }
@@ -30,17 +30,45 @@ public interface Execution {
 
     /**
      * Returns the elapsed time since initial execution began.
+     *
+     * @see #getElapsedNanos()
      */
     public Duration getElapsedTime();
 
+    /**
+     * Returns the elapsed time in nanoseconds since initial execution began.
+     * Unlike {@link #getElapsedTime()}, this does not allocate, so prefer it
+     * in listeners and predicates that read the timing on every execution.
+     */
+    public long getElapsedNanos();
+
     /**
      * Gets the number of executions so far.
      */
     public int getExecutions();
 
+    /**
+     * Returns whether the current attempt has been cancelled, e.g. because it
+     * timed out without being interrupted or because the caller cancelled the
+     * future of an asynchronous execution. Long running work can poll this to
+     * stop early, since its result will be discarded.
+     *
+     * @see ExecutorConfig#withTimeout(Duration, boolean)
+     */
+    public boolean isCancelled();
+
     /**
      * Returns the time that the initial execution started.
+     *
+     * @see #getStartNanos()
      */
     public Duration getStartTime();
 
+    /**
+     * Returns the {@link System#nanoTime()} at which the initial execution
+     * started. Implementations should store this raw value and only create
+     * the {@code Duration} of {@link #getStartTime()} when it is asked for.
+     */
+    public long getStartNanos();
+
 }
\ No newline at end of file
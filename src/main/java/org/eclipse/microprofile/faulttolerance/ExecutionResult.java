@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2016,2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.faulttolerance;
+
+/**
+ * The outcome of one execution in a batch or stream of executions: either a result or a failure.
+ *
+ * @param <T> result type
+ */
+public interface ExecutionResult<T> {
+
+    /**
+     * Returns the execution failure, else {@code null} if the execution was successful.
+     */
+    public Throwable getFailure();
+
+    /**
+     * Returns the execution result, else {@code null} if the execution failed.
+     */
+    public T getResult();
+
+    /**
+     * Returns whether the execution was successful.
+     */
+    public boolean isSuccess();
+
+}
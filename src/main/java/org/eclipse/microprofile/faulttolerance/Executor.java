@@ -51,4 +51,13 @@ public interface Executor {
      */
     <T> SyncExecutor<T> with(Bulkhead bulkhead);
 
+    /**
+     * Creates and returns a new SyncExecution instance that will perform executions at a rate limited by the
+     * {@code rateLimiter}.
+     *
+     * @param <T> result type
+     * @throws NullPointerException if {@code rateLimiter} is null
+     */
+    <T> SyncExecutor<T> with(RateLimiter rateLimiter);
+
 }
\ No newline at end of file
@@ -18,6 +18,7 @@
  */
 package org.eclipse.microprofile.faulttolerance;
 
+import java.time.Duration;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.function.BiConsumer;
@@ -25,10 +26,17 @@ import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
+import org.eclipse.microprofile.faulttolerance.spi.ContextPropagator;
 import org.eclipse.microprofile.faulttolerance.spi.ContextualResultListener;
 
 /**
  * Executor configuration.
+ * <p>
+ * Listener dispatch should cost nothing for events without listeners.
+ * Implementations should record the events ({@code onAbort},
+ * {@code onComplete}, ...) with registered listeners in a bitmask, hold the listeners of each event in a
+ * flat array, and skip both building the listener arguments and dispatching
+ * for events whose bit is not set.
  *
  * @author Jonathan Halterman
  * @author Emily Jiang
@@ -273,6 +281,33 @@ public interface ExecutorConfig<R, F> {
      */
     public F onSuccessAsync(Consumer<? extends R> listener, ExecutorService executor);
 
+    /**
+     * Configures the listeners registered via the {@code on*Async} methods to
+     * receive their events in batches. Events are queued into a
+     * multi-producer, single-consumer buffer of {@code bufferSize} entries per
+     * listener, and a single task per listener drains the buffered events on
+     * the listener's executor, instead of one task being submitted per event.
+     * Events offered to a full buffer are handled according to the
+     * {@code overflowPolicy}.
+     *
+     * @throws NullPointerException
+     *             if {@code overflowPolicy} is null
+     * @throws IllegalArgumentException
+     *             if {@code bufferSize} < 1
+     */
+    public F withAsyncListenerBatching(int bufferSize, OverflowPolicy overflowPolicy);
+
+    /**
+     * Registers the {@code propagator} to capture the caller's context once
+     * per execution and to install it around each asynchronous attempt and
+     * each listener called on another thread. Propagators are applied in
+     * registration order and restored in reverse order.
+     *
+     * @throws NullPointerException
+     *             if {@code propagator} is null
+     */
+    public F withContextPropagator(ContextPropagator<?> propagator);
+
     /**
      * Configures the {@code circuitBreaker} to be used to control the rate of
      * event execution.
@@ -295,6 +330,17 @@ public interface ExecutorConfig<R, F> {
      */
     public F with(RetryPolicy retryPolicy);
 
+    /**
+     * Configures the {@code rateLimiter} to be used to limit the rate of
+     * executions. Each execution attempt, including retries, takes a permit.
+     *
+     * @throws NullPointerException
+     *             if {@code rateLimiter} is null
+     * @throws IllegalStateException
+     *             if a rate limiter is already configured
+     */
+    public F with(RateLimiter rateLimiter);
+
     /**
      * Configures the {@code fallback} action to be executed if execution fails.
      *
@@ -365,4 +411,102 @@ public interface ExecutorConfig<R, F> {
      */
     public F withFallback(R fallback);
 
+    /**
+     * Configures the {@code cache} to record the successful result of each
+     * keyed execution under its key, and to serve the last recorded result
+     * for that key as the fallback if the execution fails or the circuit is
+     * open. The key is passed per call, e.g. via
+     * {@link SyncExecutor#get(Object, Callable)}, so a single
+     * {@link #build() built} executor serves every key. Executions without a
+     * key are neither recorded nor served from the cache.
+     *
+     * @throws NullPointerException
+     *             if {@code cache} is null
+     * @throws IllegalStateException
+     *             if a fallback has already been configured
+     */
+    public F withCachedFallback(FallbackCache cache);
+
+    /**
+     * Coalesces concurrent keyed executions with an equal key into a single
+     * in-flight execution whose result or failure is shared with every
+     * caller. The key is passed per call, e.g. via
+     * {@link SyncExecutor#get(Object, Callable)}, so a single
+     * {@link #build() built} executor coalesces each key separately.
+     * Executions without a key are never coalesced. Retries and circuit
+     * breaking are applied once, to the shared execution. An execution
+     * started after the shared execution completes is not coalesced with it.
+     */
+    public F withCoalescing();
+
+    /**
+     * Configures the {@code timeout} for each execution attempt. An attempt
+     * that does not complete within the {@code timeout} is failed with a
+     * {@link TimeOutException}, which is handled by the configured retry
+     * policy, circuit breaker and fallback like any other failure. Timeouts
+     * are enforced with the provider's shared
+     * {@link org.eclipse.microprofile.faulttolerance.spi.Timer Timer} and
+     * cancelled as soon as the attempt completes. The thread running a timed
+     * out attempt is interrupted. See {@link #withTimeout(Duration, boolean)}
+     * for when a {@link SyncExecutor} throws the {@link TimeOutException} and
+     * how the interrupt is ordered against the completion of the attempt.
+     *
+     * @throws NullPointerException
+     *             if {@code timeout} is null
+     * @throws IllegalArgumentException
+     *             if {@code timeout} <= 0
+     * @throws IllegalStateException
+     *             if a timeout is already configured
+     */
+    public F withTimeout(Duration timeout);
+
+    /**
+     * Configures the {@code timeout} for each execution attempt, failing an
+     * attempt that does not complete in time with a {@link TimeOutException}.
+     * If {@code interrupt} is false, the thread running a timed out attempt
+     * is not interrupted: the attempt is {@link Execution#isCancelled()
+     * cancelled}, so that work which polls its {@link Execution} can stop
+     * early, and is otherwise left to finish in the background with its
+     * result discarded. Use this for work that must not be interrupted, such
+     * as JDBC or NIO channel calls, which close their connection on interrupt.
+     * <p>
+     * A {@link SyncExecutor} runs each attempt on the caller's thread and
+     * never moves it to another thread, so that a timed execution costs a
+     * timer entry per call rather than a thread hand-off. When the timeout
+     * expires, the caller's thread is interrupted if {@code interrupt} is
+     * true, and the attempt is cancelled in either case. The
+     * {@link TimeOutException} is thrown when the attempt returns, so the
+     * caller only gets it on time if the attempt responds to the interrupt or
+     * polls {@link Execution#isCancelled()}. Without an interrupt, an attempt
+     * that does neither is timed out only after it completes. Use an
+     * {@link AsyncExecutor} to fail the caller on time regardless of the
+     * attempt.
+     * <p>
+     * The interrupt races with the normal completion of the attempt, so
+     * implementations must order the two, e.g. by a compare-and-set on the
+     * state of the attempt, so that an attempt which has completed is never
+     * interrupted. An interrupt delivered by the timeout is cleared before
+     * {@code get} or {@code run} returns or throws, so it cannot leak into the
+     * caller's later code; an interrupt the caller's thread received from
+     * elsewhere is preserved.
+     *
+     * @throws NullPointerException
+     *             if {@code timeout} is null
+     * @throws IllegalArgumentException
+     *             if {@code timeout} <= 0
+     * @throws IllegalStateException
+     *             if a timeout is already configured
+     */
+    public F withTimeout(Duration timeout, boolean interrupt);
+
+    /**
+     * Freezes this configuration into an immutable, thread-safe executor. The
+     * policy chain, registered listeners and fallback are resolved once, so
+     * the returned executor can be shared and used for any number of
+     * executions without being reconfigured or copied per call. Calling any
+     * configuration method on the returned executor throws an
+     * {@code IllegalStateException}.
+     */
+    public F build();
+
 }
\ No newline at end of file
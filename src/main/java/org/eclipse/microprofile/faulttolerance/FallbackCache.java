@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2016,2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.faulttolerance;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * A fallback that remembers the last successful result per key and serves it when an execution fails or the circuit
+ * is open. Entries are served for the configured {@link #withTtl(Duration) time to live}, and the number of entries is
+ * bounded by the configured {@link #withMaxSize(int) max size}.
+ * <p>
+ * A FallbackCache can be shared across executions via {@link ExecutorConfig#withCachedFallback(FallbackCache)}.
+ */
+public interface FallbackCache {
+
+    /**
+     * How entries are chosen for eviction once the cache is full.
+     */
+    public enum Eviction {
+        /* The least recently used entry is evicted. */
+        LRU,
+        /* Admission and eviction are decided by frequency, as in W-TinyLFU. */
+        TINY_LFU;
+    }
+
+    /**
+     * Returns the max number of entries.
+     *
+     * @see #withMaxSize(int)
+     */
+    public int getMaxSize();
+
+    /**
+     * Returns how long a result is served after it was recorded.
+     *
+     * @see #withTtl(Duration)
+     */
+    public Duration getTtl();
+
+    /**
+     * Removes the entry for the {@code key}, if any.
+     */
+    public void invalidate(Object key);
+
+    /**
+     * Removes all entries.
+     */
+    public void invalidateAll();
+
+    /**
+     * Sets the policy used to evict entries once the cache is full. Defaults to {@link Eviction#LRU}.
+     *
+     * @throws NullPointerException if {@code eviction} is null
+     */
+    public FallbackCache withEviction(Eviction eviction);
+
+    /**
+     * Sets the max number of entries.
+     *
+     * @throws IllegalArgumentException if {@code maxSize} < 1
+     */
+    public FallbackCache withMaxSize(int maxSize);
+
+    /**
+     * Allows an entry to be served for the {@code staleWindow} after its time to live has passed, while the execution is
+     * retried on the {@code executor} in the background to refresh the entry.
+     *
+     * @throws NullPointerException if {@code staleWindow} or {@code executor} is null
+     * @throws IllegalArgumentException if {@code staleWindow} <= 0
+     */
+    public FallbackCache withStaleWhileRevalidate(Duration staleWindow, ExecutorService executor);
+
+    /**
+     * Sets how long a result is served after it was recorded.
+     *
+     * @throws NullPointerException if {@code ttl} is null
+     * @throws IllegalArgumentException if {@code ttl} <= 0
+     */
+    public FallbackCache withTtl(Duration ttl);
+
+}
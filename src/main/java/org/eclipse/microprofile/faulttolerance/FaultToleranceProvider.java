@@ -37,6 +37,14 @@ public final class FaultToleranceProvider {
         return INSTANCE.newBulkhead();
     }
 
+    public static RateLimiter newRateLimiter() {
+        return INSTANCE.newRateLimiter();
+    }
+
+    public static FallbackCache newFallbackCache() {
+        return INSTANCE.newFallbackCache();
+    }
+
     public static Executor newExecutor() {
         return INSTANCE.newExecutor();
     }
@@ -53,6 +61,10 @@ public final class FaultToleranceProvider {
         return newExecutor().with(bulkhead);
     }
 
+    public static SyncExecutor<?> newExecutor(RateLimiter rateLimiter) {
+        return newExecutor().with(rateLimiter);
+    }
+
     public static AsyncExecutor<?> newExecutor(RetryPolicy retryPolicy, ScheduledExecutorService executorService) {
         return newExecutor(retryPolicy).with(executorService);
     }
@@ -64,4 +76,8 @@ public final class FaultToleranceProvider {
     public static AsyncExecutor<?> newExecutor(Bulkhead bulkhead, ScheduledExecutorService executorService) {
         return newExecutor(bulkhead).with(executorService);
     }
+
+    public static AsyncExecutor<?> newExecutor(RateLimiter rateLimiter, ScheduledExecutorService executorService) {
+        return newExecutor(rateLimiter).with(executorService);
+    }
 }
@@ -31,4 +31,17 @@ public class FaultToleranceRuntimeException extends RuntimeException {
   public FaultToleranceRuntimeException(Throwable t) {
     super(t);
   }
+
+  /**
+   * Creates an exception with suppression and the stack trace optionally disabled. Fail-fast rejections are thrown
+   * when the system is overloaded, so providers should throw stackless instances there, created with
+   * {@code writableStackTrace} set to false. An instance that is cached and rethrown must also be created with
+   * {@code enableSuppression} set to false, since it is shared between threads.
+   *
+   * @see Throwable#Throwable(String, Throwable, boolean, boolean)
+   */
+  protected FaultToleranceRuntimeException(String message, Throwable cause, boolean enableSuppression,
+      boolean writableStackTrace) {
+    super(message, cause, enableSuppression, writableStackTrace);
+  }
 }
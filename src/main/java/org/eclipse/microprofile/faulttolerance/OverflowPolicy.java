@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2016,2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.faulttolerance;
+
+/**
+ * What to do with an item that is offered to a full bounded buffer.
+ */
+public enum OverflowPolicy {
+    /* The offered item is dropped. */
+    DROP_NEWEST,
+    /* The oldest buffered item is dropped to make room for the offered item. */
+    DROP_OLDEST,
+    /* The offered item is handled on the offering thread instead of being buffered. */
+    CALLER_RUNS;
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2016,2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.faulttolerance;
+
+import java.time.Duration;
+
+/**
+ * A rate limiter that caps the rate of executions, e.g. toward a dependency with a call quota. Executions that cannot
+ * get a permit within the configured {@link #withMaxWait(Duration) max wait} fail with a
+ * {@link RateLimitExceededException}.
+ * <p>
+ * Permit admission is lock-free, and a RateLimiter can be shared across executions to enforce one quota.
+ */
+public interface RateLimiter {
+
+    /**
+     * The algorithm used to admit executions.
+     */
+    public enum Mode {
+        /* A token bucket refilled at the configured rate, holding at most the configured burst. */
+        TOKEN_BUCKET,
+        /* The generic cell rate algorithm, spacing executions evenly with the configured burst tolerance. */
+        GCRA;
+    }
+
+    /**
+     * Returns the number of executions allowed in excess of the rate, after a period with fewer executions.
+     *
+     * @see #withBurst(int)
+     */
+    public int getBurst();
+
+    /**
+     * Returns the max time an execution waits for a permit. {@link Duration#ZERO} means that executions fail fast.
+     *
+     * @see #withMaxWait(Duration)
+     */
+    public Duration getMaxWait();
+
+    /**
+     * Returns the admission algorithm.
+     *
+     * @see #withMode(Mode)
+     */
+    public Mode getMode();
+
+    /**
+     * Returns the number of permits per {@link #getPeriod() period}.
+     *
+     * @see #withRate(int, Duration)
+     */
+    public int getPermits();
+
+    /**
+     * Returns the period over which {@link #getPermits() permits} are issued.
+     *
+     * @see #withRate(int, Duration)
+     */
+    public Duration getPeriod();
+
+    /**
+     * Takes a permit if one is available now, without waiting, and returns whether it was taken.
+     */
+    public boolean tryAcquire();
+
+    /**
+     * Takes a permit, waiting up to {@code maxWait} for one to become available, and returns whether it was taken.
+     *
+     * @throws NullPointerException if {@code maxWait} is null
+     * @throws FaultToleranceRuntimeException if interrupted while waiting
+     */
+    public boolean tryAcquire(Duration maxWait);
+
+    /**
+     * Sets the number of executions allowed in excess of the rate after a period with fewer executions. Defaults to
+     * {@code 0}.
+     *
+     * @throws IllegalArgumentException if {@code burst} < 0
+     */
+    public RateLimiter withBurst(int burst);
+
+    /**
+     * Sets the max time an execution waits for a permit before failing with a {@link RateLimitExceededException}.
+     * Defaults to {@link Duration#ZERO}, which fails fast.
+     *
+     * @throws NullPointerException if {@code maxWait} is null
+     * @throws IllegalArgumentException if {@code maxWait} < 0
+     */
+    public RateLimiter withMaxWait(Duration maxWait);
+
+    /**
+     * Sets the admission algorithm. Defaults to {@link Mode#TOKEN_BUCKET}.
+     *
+     * @throws NullPointerException if {@code mode} is null
+     */
+    public RateLimiter withMode(Mode mode);
+
+    /**
+     * Sets the rate to {@code permits} executions per {@code period}.
+     *
+     * @throws NullPointerException if {@code period} is null
+     * @throws IllegalArgumentException if {@code permits} < 1 or {@code period} <= 0
+     */
+    public RateLimiter withRate(int permits, Duration period);
+
+}
@@ -18,10 +18,14 @@
 
 package org.eclipse.microprofile.faulttolerance;
 
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import org.eclipse.microprofile.fault.tolerance.inject.CircuitBreaker;
 import org.eclipse.microprofile.faulttolerance.spi.Scheduler;
@@ -30,6 +34,21 @@ import org.eclipse.microprofile.faulttolerance.spi.Scheduler;
  * Performs synchronous executions with failures handled according to a configured {@link #with(RetryPolicy) retry
  * policy}, {@link #with(CircuitBreaker) circuit breaker} and
  * {@link #withFallback(java.util.function.BiFunction) fallback}.
+ * <p>
+ * An execution via {@link #get(Callable)} or {@link #run(Runnable)} that
+ * succeeds on its first attempt should allocate nothing beyond what the
+ * {@code callable} or {@code runnable} allocates: implementations should not
+ * create an {@link Execution}, a {@code Duration}, listener iterators or
+ * capturing lambdas on that path, and should defer them until an attempt fails
+ * or a registered listener asks for them.
+ * <p>
+ * This only holds for configurations without a
+ * {@link #withTimeout(java.time.Duration) timeout},
+ * {@link #withCachedFallback(FallbackCache) cached fallback} or
+ * {@link #withCoalescing() coalescing}, which need per-call state on every
+ * execution: a timeout registers a timer entry and captures the caller's
+ * thread to interrupt it, a cached fallback records every successful result
+ * and coalescing registers the execution while it is in flight.
  *
  * @author Jonathan Halterman
  * @author Emily Jiang
@@ -67,6 +86,47 @@ public interface SyncExecutor<R> extends ExecutorConfig<R, SyncExecutor<R>> {
      */
     public abstract <T> T get(Function<Execution, T> callable) throws Throwable;
 
+    /**
+     * Executes the {@code callable} as if by {@link #get(Callable)}, under the
+     * {@code key} of this call. The key selects the entry of a
+     * {@link #withCachedFallback(FallbackCache) cached fallback} and the
+     * executions that are {@link #withCoalescing() coalesced}.
+     *
+     * @throws Throwable
+     *             if the {@code callable} fails with a Throwable
+     * @throws NullPointerException
+     *             if the {@code key} or the {@code callable} is null
+     * @throws FaultToleranceRuntimeException
+     *             if interrupted while waiting to perform a retry.
+     * @throws CircuitBreakerOpenException
+     *             if a configured circuit is open.
+     */
+    public abstract <T> T get(Object key, Callable<T> callable) throws Throwable;
+
+    /**
+     * Executes each of the {@code callables} as if by {@link #get(Callable)},
+     * returning one result per callable in iteration order. The failure of a
+     * callable is recorded in its result and does not stop the remaining
+     * callables.
+     * <p>
+     * Policies are evaluated once per slice where possible. The batch is cut
+     * into consecutive slices of {@code sliceSize} callables in iteration
+     * order, and a configured circuit breaker is asked for permission once per
+     * slice, before its first callable runs. All callables of a slice that is
+     * not admitted fail with a {@link CircuitBreakerOpenException} without
+     * being run. If the breaker opens while an admitted slice runs, the
+     * callables of the slice that have not started yet fail the same way,
+     * and the next slice is checked as usual. While the breaker is half-open,
+     * a slice is reduced to a single callable, so that a batch cannot exceed
+     * the breaker's trial executions.
+     *
+     * @throws NullPointerException
+     *             if {@code callables} is null or contains null
+     * @throws IllegalArgumentException
+     *             if {@code sliceSize} < 1
+     */
+    public abstract <T> List<ExecutionResult<T>> getAll(Collection<? extends Callable<T>> callables, int sliceSize);
+
     /**
      * Executes the {@code runnable} until successful or until the configured
      * {@link RetryPolicy} is exceeded.
@@ -94,6 +154,31 @@ public interface SyncExecutor<R> extends ExecutorConfig<R, SyncExecutor<R>> {
      */
     public abstract void run(Consumer<Execution> runnable);
 
+    /**
+     * Returns a lazily evaluated stream that applies the {@code function} to
+     * each element of the {@code source} under this configuration, one
+     * element at a time and in encounter order. Each application is retried,
+     * circuit broken and falls back independently, and its failure is
+     * recorded in its result rather than terminating the stream. Elements are
+     * only pulled from the {@code source} as the returned stream is consumed.
+     *
+     * @throws NullPointerException
+     *             if {@code source} or {@code function} is null
+     */
+    public abstract <T, U> Stream<ExecutionResult<U>> stream(Stream<T> source,
+                    Function<? super T, ? extends U> function);
+
+    /**
+     * Returns a lazily evaluated stream that applies the {@code function} to
+     * each element of the {@code source} under this configuration.
+     *
+     * @throws NullPointerException
+     *             if {@code source} or {@code function} is null
+     * @see #stream(Stream, Function)
+     */
+    public abstract <T, U> Stream<ExecutionResult<U>> stream(Iterator<T> source,
+                    Function<? super T, ? extends U> function);
+
     /**
      * Creates and returns a new AsyncExecutor instance that will perform
      * executions and retries asynchronously via the {@code executor}.
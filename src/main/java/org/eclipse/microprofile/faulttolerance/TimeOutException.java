@@ -30,4 +30,8 @@ public class TimeOutException extends FaultToleranceRuntimeException {
     public TimeOutException(Throwable t) {
         super(t);
     }
+
+    public TimeOutException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
 }
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2016,2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.faulttolerance.spi;
+
+/**
+ * Propagates thread-local context, such as a logging MDC, a tracing span or a security identity, from the thread that
+ * starts an execution to the threads that run its asynchronous attempts and listeners.
+ * <p>
+ * The context is captured once per execution as an immutable snapshot, which is then installed around each attempt
+ * and listener callback. Installing a snapshot should be cheap, e.g. a single thread-local write, and must not copy
+ * it.
+ *
+ * @param <C> context snapshot type
+ */
+public interface ContextPropagator<C> {
+    /**
+     * Captures the context of the current thread. Called once per execution, on the thread that starts it.
+     *
+     * @return an immutable snapshot of the context
+     */
+    C capture();
+
+    /**
+     * Installs the {@code snapshot} as the context of the current thread, returning the context it replaces. The
+     * returned context is passed to this method again after the attempt or callback, to restore the thread.
+     *
+     * @param snapshot a snapshot returned by {@link #capture()} or by this method
+     * @return the replaced context
+     */
+    C apply(C snapshot);
+}
@@ -20,13 +20,17 @@ package org.eclipse.microprofile.faulttolerance.spi;
  */
 
 
+import java.lang.reflect.Method;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.ServiceLoader;
 
+import org.eclipse.microprofile.fault.tolerance.inject.GuardedMethod;
 import org.eclipse.microprofile.faulttolerance.Bulkhead;
 import org.eclipse.microprofile.faulttolerance.CircuitBreakerPolicy;
 import org.eclipse.microprofile.faulttolerance.Executor;
+import org.eclipse.microprofile.faulttolerance.FallbackCache;
+import org.eclipse.microprofile.faulttolerance.RateLimiter;
 import org.eclipse.microprofile.faulttolerance.RetryPolicy;
 
 /**
@@ -43,8 +47,34 @@ public abstract class FaultToleranceProviderResolver {
 
     public abstract Bulkhead newBulkhead();
 
+    public abstract RateLimiter newRateLimiter();
+
     public abstract Executor newExecutor();
 
+    /**
+     * Returns the timer used to enforce the timeouts of all executors of this provider, including the timeouts
+     * declared with {@code @TimeOut}.
+     */
+    public abstract Timer getTimer();
+
+    /**
+     * Returns the fault tolerance metadata of the {@code method} of the {@code beanClass}, resolving it from the
+     * annotations of the method and the bean class on the first call and returning the cached metadata on later calls,
+     * else {@code null} if the method is not guarded. The metadata is cached per bean class, since a method inherited by
+     * several beans can have a different {@link org.eclipse.microprofile.fault.tolerance.inject.Fallback Fallback} in
+     * each. Interceptors call this per invocation, so it must not reflect or read annotations once resolved.
+     * Where a {@link org.eclipse.microprofile.fault.tolerance.inject.GuardedMethodIndex GuardedMethodIndex} is
+     * available, the metadata {@link org.eclipse.microprofile.fault.tolerance.inject.GuardedMethodIndex#lookup looked
+     * up} for the {@code beanClass} should be used instead of reading the annotations; a method that is not in the
+     * index must still be resolved from its annotations.
+     *
+     * @throws IllegalArgumentException if the {@code beanClass} is annotated with
+     *         {@link org.eclipse.microprofile.fault.tolerance.inject.Fallback Fallback}, which only applies to methods
+     */
+    public abstract GuardedMethod getGuardedMethod(Class<?> beanClass, Method method);
+
+    public abstract FallbackCache newFallbackCache();
+
     /**
      * Creates a FaultToleranceProviderResolver object
      * 
@@ -0,0 +1,443 @@
+/*
+ * Copyright (c) 2016,2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.faulttolerance.spi;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * A {@link Scheduler} and {@link Timer} backed by a hashed timing wheel, for the large numbers of short-lived delayed
+ * tasks created by retries and timeouts.
+ * <p>
+ * Tasks are submitted lock-free from any thread and picked up by a single timer thread once per tick, which then
+ * expires the tasks of the current wheel bucket in one batch. Scheduling and cancellation are O(1); the price is that
+ * a task runs up to one tick duration after its delay. A timeout is a single wheel entry, and cancelling it only flips
+ * its state: the timer thread unlinks cancelled entries when it next visits their bucket, within one turn of the wheel.
+ * <p>
+ * Expired tasks run on the configured {@link Executor}, so slow tasks cannot delay the expiry of other tasks. If the
+ * executor rejects a task, the {@link ScheduledFuture} of a {@link #schedule(Callable, long, TimeUnit) scheduled} task
+ * fails with the {@link RejectedExecutionException}, while a {@link #newTimeout(Runnable, long, TimeUnit) timeout} is
+ * run on the timer thread, as the {@link Timer} contract allows.
+ * <p>
+ * The timer thread is started when the first task is scheduled and runs until {@link #stop()} is called.
+ */
+public class HashedWheelScheduler implements Scheduler, Timer {
+
+    private static final int WORKER_INIT = 0;
+    private static final int WORKER_STARTED = 1;
+    private static final int WORKER_STOPPED = 2;
+
+    /* Bounds the tasks moved into the wheel per tick, so that a submission burst cannot stall expiry. */
+    private static final int MAX_TRANSFERS_PER_TICK = 100000;
+
+    private static final AtomicIntegerFieldUpdater<HashedWheelScheduler> WORKER_STATE =
+        AtomicIntegerFieldUpdater.newUpdater(HashedWheelScheduler.class, "workerState");
+
+    private final Executor executor;
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Thread workerThread;
+    private final Queue<Task> pendingTasks = new ConcurrentLinkedQueue<>();
+    private final CountDownLatch startLatch = new CountDownLatch(1);
+
+    private volatile int workerState = WORKER_INIT;
+    private volatile long startNanos;
+
+    /**
+     * Creates a scheduler with a tick duration of 10 milliseconds and 512 buckets, running expired tasks on the
+     * {@code executor}.
+     *
+     * @throws NullPointerException if {@code executor} is null
+     */
+    public HashedWheelScheduler(Executor executor) {
+        this(executor, 10, TimeUnit.MILLISECONDS, 512);
+    }
+
+    /**
+     * Creates a scheduler running expired tasks on the {@code executor}.
+     *
+     * @param executor the executor that expired tasks are run on
+     * @param tickDuration the granularity of the wheel; tasks run up to one tick after their delay
+     * @param unit the unit of the {@code tickDuration}
+     * @param ticksPerWheel the number of buckets, rounded up to a power of two
+     * @throws NullPointerException if {@code executor} or {@code unit} is null
+     * @throws IllegalArgumentException if {@code tickDuration} <= 0 or {@code ticksPerWheel} is not between 1 and
+     *         2^30
+     */
+    public HashedWheelScheduler(Executor executor, long tickDuration, TimeUnit unit, int ticksPerWheel) {
+        this.executor = Objects.requireNonNull(executor, "executor");
+        Objects.requireNonNull(unit, "unit");
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("tickDuration must be > 0: " + tickDuration);
+        }
+        if (ticksPerWheel <= 0 || ticksPerWheel > 1 << 30) {
+            throw new IllegalArgumentException("ticksPerWheel must be between 1 and 2^30: " + ticksPerWheel);
+        }
+
+        int wheelLength = Integer.highestOneBit(ticksPerWheel);
+        if (wheelLength < ticksPerWheel) {
+            wheelLength <<= 1;
+        }
+        wheel = new Bucket[wheelLength];
+        for (int i = 0; i < wheelLength; i++) {
+            wheel[i] = new Bucket();
+        }
+        mask = wheelLength - 1;
+        tickNanos = unit.toNanos(tickDuration);
+
+        workerThread = new Thread(this::runWorker, "fault-tolerance-timer");
+        workerThread.setDaemon(true);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException if {@code callable} or {@code unit} is null
+     * @throws IllegalStateException if the scheduler has been stopped
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public ScheduledFuture<?> schedule(Callable<?> callable, long delay, TimeUnit unit) {
+        Objects.requireNonNull(callable, "callable");
+        ScheduledTask future = new ScheduledTask(this, (Callable<Object>) callable);
+        submit(future.task, delay, unit);
+        return future;
+    }
+
+    @Override
+    public Timeout newTimeout(Runnable task, long delay, TimeUnit unit) {
+        Objects.requireNonNull(task, "task");
+        return submit(new Task(this, task), delay, unit);
+    }
+
+    /**
+     * Stops the timer thread and cancels all tasks that have not expired yet. Tasks already handed to the executor are
+     * not affected.
+     */
+    public void stop() {
+        if (WORKER_STATE.getAndSet(this, WORKER_STOPPED) == WORKER_STARTED) {
+            workerThread.interrupt();
+        }
+    }
+
+    private Task submit(Task task, long delay, TimeUnit unit) {
+        Objects.requireNonNull(unit, "unit");
+        start();
+
+        long deadline = System.nanoTime() + unit.toNanos(delay) - startNanos;
+        // Guard against overflow for very long delays
+        if (delay > 0 && deadline < 0) {
+            deadline = Long.MAX_VALUE;
+        }
+        task.deadline = deadline;
+        pendingTasks.add(task);
+
+        // The worker may have stopped and drained the pending tasks after start() saw it running
+        if (workerState == WORKER_STOPPED) {
+            pendingTasks.remove(task);
+            if (task.cancelOnStop()) {
+                throw new IllegalStateException("The scheduler has been stopped");
+            }
+        }
+        return task;
+    }
+
+    private void start() {
+        switch (WORKER_STATE.get(this)) {
+            case WORKER_INIT:
+                if (WORKER_STATE.compareAndSet(this, WORKER_INIT, WORKER_STARTED)) {
+                    workerThread.start();
+                }
+                break;
+            case WORKER_STARTED:
+                break;
+            default:
+                throw new IllegalStateException("The scheduler has been stopped");
+        }
+
+        // Wait until the worker has initialized startNanos
+        boolean interrupted = false;
+        while (startNanos == 0) {
+            try {
+                startLatch.await();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void runWorker() {
+        long now = System.nanoTime();
+        // 0 marks startNanos as uninitialized
+        startNanos = now == 0 ? 1 : now;
+        startLatch.countDown();
+
+        long tick = 0;
+        while (workerState == WORKER_STARTED) {
+            long deadline = waitForNextTick(tick);
+            if (deadline < 0) {
+                break;
+            }
+            transferPendingTasks(tick);
+            wheel[(int) (tick & mask)].expireTasks(deadline);
+            tick++;
+        }
+
+        for (Bucket bucket : wheel) {
+            bucket.cancelAll();
+        }
+        Task task;
+        while ((task = pendingTasks.poll()) != null) {
+            task.cancelOnStop();
+        }
+    }
+
+    /**
+     * Sleeps until the end of the {@code tick} and returns its deadline relative to {@code startNanos}, else -1 if
+     * the scheduler was stopped.
+     */
+    private long waitForNextTick(long tick) {
+        long deadline = tickNanos * (tick + 1);
+        for (;;) {
+            long remainingNanos = deadline - (System.nanoTime() - startNanos);
+            if (remainingNanos <= 0) {
+                return deadline;
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(remainingNanos);
+            } catch (InterruptedException e) {
+                if (workerState == WORKER_STOPPED) {
+                    return -1;
+                }
+            }
+        }
+    }
+
+    private void transferPendingTasks(long tick) {
+        for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+            Task task = pendingTasks.poll();
+            if (task == null) {
+                return;
+            }
+            if (task.state != Task.ST_INIT) {
+                continue;
+            }
+
+            long calculatedTick = task.deadline / tickNanos;
+            task.remainingRounds = (calculatedTick - tick) / wheel.length;
+            // Tasks whose deadline has already passed go into the current bucket
+            long targetTick = Math.max(calculatedTick, tick);
+            wheel[(int) (targetTick & mask)].add(task);
+        }
+    }
+
+    /**
+     * An entry of the wheel, linked into at most one bucket, and the {@link Timeout} of a timeout task. The links are
+     * only accessed by the timer thread.
+     */
+    private static class Task implements Timeout {
+        static final int ST_INIT = 0;
+        static final int ST_CANCELLED = 1;
+        static final int ST_EXPIRED = 2;
+
+        private static final AtomicIntegerFieldUpdater<Task> STATE =
+            AtomicIntegerFieldUpdater.newUpdater(Task.class, "state");
+
+        final HashedWheelScheduler scheduler;
+        final Runnable runnable;
+        volatile int state = ST_INIT;
+        long deadline;
+        long remainingRounds;
+        Task next;
+        Task prev;
+
+        Task(HashedWheelScheduler scheduler, Runnable runnable) {
+            this.scheduler = scheduler;
+            this.runnable = runnable;
+        }
+
+        final void expire() {
+            if (!STATE.compareAndSet(this, ST_INIT, ST_EXPIRED)) {
+                return;
+            }
+            try {
+                scheduler.executor.execute(runnable);
+            } catch (RejectedExecutionException e) {
+                rejected(e);
+            }
+        }
+
+        /**
+         * Called on the timer thread when the executor rejects the task. A timeout is run on the timer thread.
+         */
+        void rejected(RejectedExecutionException e) {
+            try {
+                runnable.run();
+            } catch (Throwable t) {
+                // The timer thread must survive a failing timeout
+                Thread thread = Thread.currentThread();
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, t);
+            }
+        }
+
+        /**
+         * Cancels the task because the scheduler is stopped, returning whether it was cancelled.
+         */
+        boolean cancelOnStop() {
+            return cancel();
+        }
+
+        @Override
+        public boolean cancel() {
+            return STATE.compareAndSet(this, ST_INIT, ST_CANCELLED);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return state == ST_CANCELLED;
+        }
+
+        @Override
+        public boolean isExpired() {
+            return state == ST_EXPIRED;
+        }
+
+        long getDelay(TimeUnit unit) {
+            return unit.convert(deadline - (System.nanoTime() - scheduler.startNanos), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * The future of a scheduled callable, which it runs through its wheel entry.
+     */
+    private static final class ScheduledTask extends FutureTask<Object> implements ScheduledFuture<Object> {
+        final Task task;
+
+        ScheduledTask(HashedWheelScheduler scheduler, Callable<Object> callable) {
+            super(callable);
+            task = new Task(scheduler, this) {
+                @Override
+                void rejected(RejectedExecutionException e) {
+                    setException(e);
+                }
+
+                @Override
+                boolean cancelOnStop() {
+                    return ScheduledTask.this.cancel(false);
+                }
+            };
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled) {
+                task.cancel();
+            }
+            return cancelled;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return task.getDelay(unit);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            if (other == this) {
+                return 0;
+            }
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+
+    /**
+     * A doubly linked list of the tasks of one wheel slot. Only accessed by the timer thread.
+     */
+    private static final class Bucket {
+        private Task head;
+        private Task tail;
+
+        void add(Task task) {
+            if (head == null) {
+                head = tail = task;
+            } else {
+                tail.next = task;
+                task.prev = tail;
+                tail = task;
+            }
+        }
+
+        void expireTasks(long deadline) {
+            Task task = head;
+            while (task != null) {
+                Task next = task.next;
+                if (task.state == Task.ST_CANCELLED) {
+                    remove(task);
+                } else if (task.remainingRounds <= 0 && task.deadline <= deadline) {
+                    remove(task);
+                    task.expire();
+                } else if (task.remainingRounds > 0) {
+                    task.remainingRounds--;
+                }
+                task = next;
+            }
+        }
+
+        void remove(Task task) {
+            Task next = task.next;
+            if (task.prev != null) {
+                task.prev.next = next;
+            }
+            if (next != null) {
+                next.prev = task.prev;
+            }
+            if (task == head) {
+                head = next;
+            }
+            if (task == tail) {
+                tail = task.prev;
+            }
+            task.prev = null;
+            task.next = null;
+        }
+
+        void cancelAll() {
+            Task task;
+            while ((task = head) != null) {
+                remove(task);
+                task.cancelOnStop();
+            }
+        }
+    }
+}
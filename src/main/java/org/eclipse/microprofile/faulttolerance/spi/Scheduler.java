@@ -26,7 +26,7 @@ import java.util.concurrent.TimeUnit;
  * Schedules executions.
  *
  * @author Jonathan Halterman
- * @see Schedulers
+ * @see HashedWheelScheduler
  */
 public interface Scheduler {
     /**
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2016,2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.faulttolerance.spi;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs timeout tasks after a delay. Used to enforce execution timeouts, which are almost always cancelled before they
+ * expire, so implementations should insert and cancel in constant time, e.g. with a hashed timing wheel shared by all
+ * executors, rather than create a {@code ScheduledFuture} per execution.
+ *
+ * @see FaultToleranceProviderResolver#getTimer()
+ */
+public interface Timer {
+
+    /**
+     * A pending task of a {@link Timer}.
+     */
+    public interface Timeout {
+        /**
+         * Cancels the task if it has not expired yet, returning whether it was cancelled.
+         */
+        boolean cancel();
+
+        /**
+         * Returns whether the task has been cancelled.
+         */
+        boolean isCancelled();
+
+        /**
+         * Returns whether the delay has passed and the task has been run or handed off to run.
+         */
+        boolean isExpired();
+    }
+
+    /**
+     * Schedules the {@code task} to be run once after the {@code delay} for the {@code unit}. The task should be short
+     * and must not block, since it may be run on the timer thread.
+     *
+     * @throws NullPointerException if {@code task} or {@code unit} is null
+     * @throws IllegalStateException if the timer has been stopped
+     */
+    Timeout newTimeout(Runnable task, long delay, TimeUnit unit);
+}
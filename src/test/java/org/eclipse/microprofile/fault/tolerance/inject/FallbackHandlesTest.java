@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.inject;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Method;
+
+import junit.framework.TestCase;
+
+public class FallbackHandlesTest extends TestCase {
+
+    public static class Service {
+        public String load(String id, int version) {
+            throw new IllegalStateException();
+        }
+
+        public int count(String id) {
+            throw new IllegalStateException();
+        }
+
+        public Number size(String id) {
+            throw new IllegalStateException();
+        }
+
+        public void save(String id) {
+            throw new IllegalStateException();
+        }
+
+        private String cachedLoad(String id, int version) {
+            return "cached " + id + " " + version;
+        }
+
+        static int defaultCount(String id) {
+            return 42;
+        }
+
+        int intSize(String id) {
+            return 7;
+        }
+
+        String save(Object other) {
+            return null;
+        }
+
+        public String wrongReturnType(String id) {
+            return id;
+        }
+    }
+
+    public static class CachingService extends Service {
+        String bean = "caching";
+
+        String inheritedLoad(String id, int version) {
+            return bean + " " + id + " " + version;
+        }
+    }
+
+    public void testPrivateInstanceFallback() throws Throwable {
+        MethodHandle handle = FallbackHandles.resolve(Service.class, method("load", String.class, int.class),
+            "cachedLoad");
+
+        assertEquals(FallbackHandles.TYPE, handle.type());
+        assertEquals("cached a 1", (Object) handle.invokeExact((Object) new Service(), new Object[] { "a", 1 }));
+    }
+
+    public void testStaticFallbackIgnoresTarget() throws Throwable {
+        MethodHandle handle = FallbackHandles.resolve(Service.class, method("count", String.class), "defaultCount");
+
+        assertEquals(42, (Object) handle.invokeExact((Object) null, new Object[] { "a" }));
+    }
+
+    public void testPrimitiveReturnIsBoxed() throws Throwable {
+        MethodHandle handle = FallbackHandles.resolve(Service.class, method("size", String.class), "intSize");
+
+        assertEquals(7, (Object) handle.invokeExact((Object) new Service(), new Object[] { "a" }));
+    }
+
+    public void testVoidGuardedMethodAcceptsAnyReturnType() throws Throwable {
+        MethodHandle handle = FallbackHandles.resolve(Service.class, method("save", String.class), "wrongReturnType");
+
+        assertEquals("a", (Object) handle.invokeExact((Object) new Service(), new Object[] { "a" }));
+    }
+
+    public void testInheritedGuardedMethodResolvesAgainstBeanClass() throws Throwable {
+        Method load = method("load", String.class, int.class);
+
+        MethodHandle handle = FallbackHandles.resolve(CachingService.class, load, "inheritedLoad");
+        assertEquals("caching a 1", (Object) handle.invokeExact((Object) new CachingService(), new Object[] { "a", 1 }));
+
+        // Methods of the superclasses of the bean class are found too
+        handle = FallbackHandles.resolve(CachingService.class, load, "cachedLoad");
+        assertEquals("cached a 1", (Object) handle.invokeExact((Object) new CachingService(), new Object[] { "a", 1 }));
+
+        // but not methods of subclasses of the class declaring the guarded method
+        try {
+            FallbackHandles.resolve(Service.class, load, "inheritedLoad");
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    public void testMissingFallbackMethod() throws Exception {
+        try {
+            FallbackHandles.resolve(Service.class, method("load", String.class, int.class), "missing");
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    public void testParameterTypesMismatch() throws Exception {
+        // save(Object) does not match the parameter types of count(String)
+        try {
+            FallbackHandles.resolve(Service.class, method("count", String.class), "save");
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    public void testReturnTypeMismatch() throws Exception {
+        try {
+            FallbackHandles.resolve(Service.class, method("count", String.class), "wrongReturnType");
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    public void testGuardedMethodOfAnotherClass() throws Exception {
+        try {
+            FallbackHandles.resolve(String.class, method("count", String.class), "defaultCount");
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    private static Method method(String name, Class<?>... parameterTypes) throws NoSuchMethodException {
+        return Service.class.getMethod(name, parameterTypes);
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.fault.tolerance.inject.processor;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import javax.enterprise.event.Observes;
+import javax.interceptor.InterceptorBinding;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import junit.framework.TestCase;
+
+import org.eclipse.microprofile.fault.tolerance.inject.ExecutionFailureEvent;
+import org.eclipse.microprofile.fault.tolerance.inject.ExecutionFailureSummary;
+import org.eclipse.microprofile.fault.tolerance.inject.GuardedMethodIndex;
+
+public class GuardedMethodProcessorTest extends TestCase {
+
+    private static final String CATALOG = "package sample;\n"
+        + "import java.util.List;\n"
+        + "import java.util.Map;\n"
+        + "import javax.enterprise.event.Observes;\n"
+        + "import org.eclipse.microprofile.fault.tolerance.inject.*;\n"
+        + "@Retry(maxRetries = 5)\n"
+        + "public class Catalog {\n"
+        + "    public String load(String id, int[] versions) { return id; }\n"
+        + "    @Retry(maxRetries = 1) @TimeOut(timeOut = 200, interrupt = false)\n"
+        + "    public List<String> list(Map<String, Integer> filter) { return null; }\n"
+        + "    private String hidden() { return null; }\n"
+        + "    static String helper() { return null; }\n"
+        + "    private void onFailure(@Observes @FailureMethod(\"load\") ExecutionFailureEvent event) {}\n"
+        + "    static void onSummary(@Observes @FailureSummary(period = 10) ExecutionFailureSummary summary) {}\n"
+        + "    public static class Nested {\n"
+        + "        @Fallback(\"cached\") public String get(long id) { return null; }\n"
+        + "        public String cached(long id) { return null; }\n"
+        + "    }\n"
+        + "}\n";
+
+    private static final String PRICES = "package sample;\n"
+        + "import org.eclipse.microprofile.fault.tolerance.inject.*;\n"
+        + "public class Prices {\n"
+        + "    @CircuitBreaker public double price(String id) { return 0; }\n"
+        + "}\n";
+
+    private Path dir;
+
+    @Override
+    protected void setUp() throws IOException {
+        dir = Files.createTempDirectory("guarded-method-processor");
+    }
+
+    @Override
+    protected void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    public void testIndexesGuardedMethodsAndObservers() throws Exception {
+        compile(Collections.singletonMap("Catalog", CATALOG));
+
+        try (URLClassLoader loader = classLoader()) {
+            Map<String, Map<String, String>> index = GuardedMethodIndex.load(loader);
+            Class<?> catalog = loader.loadClass("sample.Catalog");
+
+            // Class level annotations apply to the methods without their own
+            Map<String, String> load = index.get(signature(catalog, "load", String.class, int[].class));
+            assertNotNull(load);
+            assertEquals("", load.get("Retry"));
+            assertEquals("5", load.get("Retry.maxRetries"));
+            assertEquals("MILLIS", load.get("Retry.delayUnit"));
+            assertEquals("java.lang.Exception", load.get("Retry.retryOn"));
+
+            // Method level annotations override the class level ones
+            Map<String, String> list = index.get(signature(catalog, "list", Map.class));
+            assertEquals("1", list.get("Retry.maxRetries"));
+            assertEquals("200", list.get("TimeOut.timeOut"));
+            assertEquals("false", list.get("TimeOut.interrupt"));
+
+            // Private and static methods cannot be intercepted
+            assertNull(index.get(signature(catalog, "hidden")));
+            assertNull(index.get(signature(catalog, "helper")));
+
+            // but private and static observers are indexed
+            Map<String, String> onFailure = index.get(signature(catalog, "onFailure", ExecutionFailureEvent.class));
+            assertEquals("load", onFailure.get("FailureMethod.value"));
+            assertNull(onFailure.get("Retry"));
+            Map<String, String> onSummary = index.get(signature(catalog, "onSummary", ExecutionFailureSummary.class));
+            assertEquals("", onSummary.get("FailureSummary"));
+            assertEquals("10", onSummary.get("FailureSummary.period"));
+            assertEquals("SECONDS", onSummary.get("FailureSummary.periodUnit"));
+
+            Class<?> nested = loader.loadClass("sample.Catalog$Nested");
+            Map<String, String> get = index.get(signature(nested, "get", long.class));
+            assertEquals("cached", get.get("Fallback.value"));
+            assertNull(index.get(signature(nested, "cached", long.class)));
+        }
+    }
+
+    public void testIncrementalBuildKeepsEntriesOfClassesNotRecompiled() throws Exception {
+        Map<String, String> sources = new LinkedHashMap<>();
+        sources.put("Catalog", CATALOG);
+        sources.put("Prices", PRICES);
+        compile(sources);
+
+        // Recompile Catalog only, without the annotations of load
+        compile(Collections.singletonMap("Catalog", CATALOG.replace("@Retry(maxRetries = 5)\n", "")));
+
+        try (URLClassLoader loader = classLoader()) {
+            Map<String, Map<String, String>> index = GuardedMethodIndex.load(loader);
+            Class<?> catalog = loader.loadClass("sample.Catalog");
+            Class<?> prices = loader.loadClass("sample.Prices");
+
+            assertEquals("", index.get(signature(prices, "price", String.class)).get("CircuitBreaker"));
+            assertNull(index.get(signature(catalog, "load", String.class, int[].class)));
+            assertEquals("1", index.get(signature(catalog, "list", Map.class)).get("Retry.maxRetries"));
+        }
+    }
+
+    public void testIndexesInheritedMethodsUnderAnnotatedSubclasses() throws Exception {
+        Map<String, String> sources = new LinkedHashMap<>();
+        sources.put("Base", "package sample;\n"
+            + "@org.eclipse.microprofile.fault.tolerance.inject.Retry(maxRetries = 5)\n"
+            + "public class Base {\n"
+            + "    public String foo(String id) { return id; }\n"
+            + "}\n");
+        sources.put("Sub", "package sample;\n"
+            + "import org.eclipse.microprofile.fault.tolerance.inject.*;\n"
+            + "@CircuitBreaker @Retry(maxRetries = 1)\n"
+            + "public class Sub extends Base {}\n");
+        sources.put("Plain", "package sample;\n"
+            + "public class Plain extends Base {}\n");
+        compile(sources);
+
+        try (URLClassLoader loader = classLoader()) {
+            Map<String, Map<String, String>> index = GuardedMethodIndex.load(loader);
+            Method foo = loader.loadClass("sample.Base").getDeclaredMethod("foo", String.class);
+
+            Map<String, String> base = GuardedMethodIndex.lookup(index, foo.getDeclaringClass(), foo);
+            assertEquals("5", base.get("Retry.maxRetries"));
+            assertNull(base.get("CircuitBreaker"));
+
+            // The class level annotations of Sub apply to foo when invoked on Sub
+            Map<String, String> sub = GuardedMethodIndex.lookup(index, loader.loadClass("sample.Sub"), foo);
+            assertEquals("1", sub.get("Retry.maxRetries"));
+            assertEquals("", sub.get("CircuitBreaker"));
+
+            // A subclass without class level annotations of its own has the entry of its superclass
+            assertEquals(base, GuardedMethodIndex.lookup(index, loader.loadClass("sample.Plain"), foo));
+        }
+    }
+
+    public void testRejectsClassLevelFallback() throws Exception {
+        String source = "package sample;\n"
+            + "@org.eclipse.microprofile.fault.tolerance.inject.Fallback(\"fallback\")\n"
+            + "public class Orders {\n"
+            + "    public String order(String id) { return null; }\n"
+            + "    public String fallback(String id) { return null; }\n"
+            + "}\n";
+
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        assertFalse(tryCompile(Collections.singletonMap("Orders", source), diagnostics));
+        Diagnostic<? extends JavaFileObject> error = diagnostics.getDiagnostics().get(0);
+        assertEquals(Diagnostic.Kind.ERROR, error.getKind());
+        assertTrue(error.getMessage(null).startsWith("@Fallback only applies to methods"));
+    }
+
+    private void compile(Map<String, String> sources) throws IOException {
+        assertTrue("The sample sources do not compile", tryCompile(sources, null));
+    }
+
+    private boolean tryCompile(Map<String, String> sources, DiagnosticCollector<JavaFileObject> diagnostics)
+        throws IOException {
+        Path sourceDir = Files.createDirectories(dir.resolve("src"));
+        List<File> files = new ArrayList<>();
+        for (Map.Entry<String, String> source : sources.entrySet()) {
+            Path file = sourceDir.resolve(source.getKey() + ".java");
+            Files.write(file, source.getValue().getBytes(StandardCharsets.UTF_8));
+            files.add(file.toFile());
+        }
+        Path classes = Files.createDirectories(dir.resolve("classes"));
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null)) {
+            String classPath = String.join(File.pathSeparator, location(GuardedMethodIndex.class),
+                location(Observes.class), location(InterceptorBinding.class), classes.toString());
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics,
+                Arrays.asList("-d", classes.toString(), "-classpath", classPath), null,
+                fileManager.getJavaFileObjectsFromFiles(files));
+            task.setProcessors(Collections.singletonList(new GuardedMethodProcessor()));
+            return task.call();
+        }
+    }
+
+    private URLClassLoader classLoader() throws IOException {
+        return new URLClassLoader(new URL[] { dir.resolve("classes").toUri().toURL() }, getClass().getClassLoader());
+    }
+
+    private static String signature(Class<?> type, String name, Class<?>... parameterTypes)
+        throws NoSuchMethodException {
+        Method method = type.getDeclaredMethod(name, parameterTypes);
+        return GuardedMethodIndex.signature(method);
+    }
+
+    private static String location(Class<?> type) {
+        try {
+            return new File(type.getProtectionDomain().getCodeSource().getLocation().toURI()).getPath();
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.faulttolerance.spi;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import junit.framework.TestCase;
+
+import org.eclipse.microprofile.faulttolerance.spi.Timer.Timeout;
+
+public class HashedWheelSchedulerTest extends TestCase {
+
+    private static final Executor DIRECT = Runnable::run;
+
+    private static final Executor REJECTING = task -> {
+        throw new RejectedExecutionException("rejected");
+    };
+
+    private HashedWheelScheduler scheduler;
+
+    @Override
+    protected void setUp() {
+        scheduler = new HashedWheelScheduler(DIRECT, 1, TimeUnit.MILLISECONDS, 8);
+    }
+
+    @Override
+    protected void tearDown() {
+        scheduler.stop();
+    }
+
+    public void testTimeoutExpiresAfterDelay() throws Exception {
+        CountDownLatch expired = new CountDownLatch(1);
+        long start = System.nanoTime();
+        Timeout timeout = scheduler.newTimeout(expired::countDown, 5, TimeUnit.MILLISECONDS);
+
+        assertTrue(expired.await(5, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(5));
+        assertTrue(timeout.isExpired());
+        assertFalse(timeout.isCancelled());
+        assertFalse(timeout.cancel());
+    }
+
+    public void testScheduledCallableCompletesFuture() throws Exception {
+        long start = System.nanoTime();
+        ScheduledFuture<?> future = scheduler.schedule(() -> "done", 5, TimeUnit.MILLISECONDS);
+
+        assertEquals("done", future.get(5, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(5));
+    }
+
+    public void testDelayLongerThanOneTurnOfTheWheel() throws Exception {
+        // 8 buckets of 1 ms: the task goes around the wheel several times before it expires
+        CountDownLatch expired = new CountDownLatch(1);
+        long start = System.nanoTime();
+        scheduler.newTimeout(expired::countDown, 50, TimeUnit.MILLISECONDS);
+
+        assertTrue(expired.await(5, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50));
+    }
+
+    public void testCancelBeforeTransferToTheWheel() throws Exception {
+        AtomicBoolean ran = new AtomicBoolean();
+        Timeout timeout = scheduler.newTimeout(() -> ran.set(true), 20, TimeUnit.MILLISECONDS);
+
+        assertTrue(timeout.cancel());
+        assertTrue(timeout.isCancelled());
+        assertFalse(timeout.cancel());
+
+        Thread.sleep(100);
+        assertFalse(ran.get());
+        assertFalse(timeout.isExpired());
+    }
+
+    public void testCancelAfterTransferToTheWheel() throws Exception {
+        AtomicBoolean ran = new AtomicBoolean();
+        Timeout timeout = scheduler.newTimeout(() -> ran.set(true), 100, TimeUnit.MILLISECONDS);
+        ScheduledFuture<?> future = scheduler.schedule(() -> ran.getAndSet(true), 100, TimeUnit.MILLISECONDS);
+
+        // Several ticks pass, so the timer thread has moved both tasks into their buckets
+        Thread.sleep(30);
+        assertTrue(timeout.cancel());
+        assertTrue(future.cancel(false));
+
+        Thread.sleep(200);
+        assertFalse(ran.get());
+        assertTrue(timeout.isCancelled());
+        assertTrue(future.isCancelled());
+        try {
+            future.get();
+            fail();
+        } catch (CancellationException expected) {
+        }
+    }
+
+    public void testExecutorRejectionFailsScheduledFuture() throws Exception {
+        scheduler = new HashedWheelScheduler(REJECTING, 1, TimeUnit.MILLISECONDS, 8);
+        ScheduledFuture<?> future = scheduler.schedule(() -> "done", 1, TimeUnit.MILLISECONDS);
+
+        try {
+            future.get(5, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof RejectedExecutionException);
+        }
+    }
+
+    public void testExecutorRejectionRunsTimeoutOnTimerThread() throws Exception {
+        scheduler = new HashedWheelScheduler(REJECTING, 1, TimeUnit.MILLISECONDS, 8);
+        AtomicReference<Thread> thread = new AtomicReference<>();
+        AtomicReference<Throwable> uncaught = new AtomicReference<>();
+        CountDownLatch expired = new CountDownLatch(2);
+
+        Thread.UncaughtExceptionHandler previousHandler = Thread.getDefaultUncaughtExceptionHandler();
+        Thread.setDefaultUncaughtExceptionHandler((t, e) -> uncaught.set(e));
+        try {
+            scheduler.newTimeout(() -> {
+                expired.countDown();
+                throw new IllegalStateException("a failing timeout does not stop the timer");
+            }, 1, TimeUnit.MILLISECONDS);
+            scheduler.newTimeout(() -> {
+                thread.set(Thread.currentThread());
+                expired.countDown();
+            }, 5, TimeUnit.MILLISECONDS);
+
+            assertTrue(expired.await(5, TimeUnit.SECONDS));
+        } finally {
+            Thread.setDefaultUncaughtExceptionHandler(previousHandler);
+        }
+        assertEquals("fault-tolerance-timer", thread.get().getName());
+        assertTrue(uncaught.get() instanceof IllegalStateException);
+    }
+
+    public void testStopCancelsPendingTasks() throws Exception {
+        AtomicBoolean ran = new AtomicBoolean();
+        Timeout timeout = scheduler.newTimeout(() -> ran.set(true), 1, TimeUnit.HOURS);
+        ScheduledFuture<?> future = scheduler.schedule(() -> ran.getAndSet(true), 1, TimeUnit.HOURS);
+        Thread.sleep(10);
+
+        scheduler.stop();
+
+        try {
+            future.get(5, TimeUnit.SECONDS);
+            fail();
+        } catch (CancellationException expected) {
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!timeout.isCancelled() && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertTrue(timeout.isCancelled());
+        assertFalse(ran.get());
+    }
+
+    public void testStoppedSchedulerRejectsTasks() {
+        scheduler.newTimeout(() -> {}, 1, TimeUnit.MILLISECONDS);
+        scheduler.stop();
+        try {
+            scheduler.newTimeout(() -> {}, 1, TimeUnit.MILLISECONDS);
+            fail();
+        } catch (IllegalStateException expected) {
+        }
+
+        HashedWheelScheduler neverStarted = new HashedWheelScheduler(DIRECT);
+        neverStarted.stop();
+        try {
+            neverStarted.schedule(() -> null, 1, TimeUnit.MILLISECONDS);
+            fail();
+        } catch (IllegalStateException expected) {
+        }
+    }
+
+    public void testTasksSubmittedWhileStoppingAreCompletedOrRejected() throws Exception {
+        List<ScheduledFuture<?>> futures = new CopyOnWriteArrayList<>();
+        Thread[] submitters = new Thread[4];
+        for (int i = 0; i < submitters.length; i++) {
+            submitters[i] = new Thread(() -> {
+                try {
+                    for (;;) {
+                        futures.add(scheduler.schedule(() -> null, 1, TimeUnit.HOURS));
+                    }
+                } catch (IllegalStateException stopped) {
+                    // Expected once the scheduler is stopped
+                }
+            });
+            submitters[i].start();
+        }
+        Thread.sleep(20);
+        scheduler.stop();
+        for (Thread submitter : submitters) {
+            submitter.join(TimeUnit.SECONDS.toMillis(5));
+            assertFalse(submitter.isAlive());
+        }
+
+        // No accepted task may be left pending forever
+        for (ScheduledFuture<?> future : futures) {
+            try {
+                future.get(5, TimeUnit.SECONDS);
+            } catch (CancellationException expected) {
+            } catch (TimeoutException e) {
+                fail("A task accepted while stopping was neither run nor cancelled");
+            }
+        }
+    }
+}